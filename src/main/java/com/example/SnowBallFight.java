@@ -2,15 +2,39 @@ package com.example;
 
 import com.example.commands.*;
 import com.example.events.*;
+import com.example.managers.ArenaReloader;
+import com.example.managers.ChunkWarmer;
+import com.example.managers.EffectQueue;
+import com.example.managers.GameCheckpointer;
 import com.example.managers.GameManager;
+import com.example.managers.InventoryKeeper;
+import com.example.managers.MonsterSuppressor;
 import com.example.managers.PlayerStatusManager;
+import com.example.managers.QualityController;
+import com.example.managers.SessionRouter;
+import com.example.managers.SpawnGenerator;
+import com.example.managers.SpawnValidator;
+import com.example.util.AsyncFileWriter;
 import com.example.util.LocationUtil;
+import com.example.util.TaskScheduler;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public class SnowBallFight extends JavaPlugin {
+    private TaskScheduler scheduler;
+    private AsyncFileWriter fileWriter;
     private GameManager gameManager;
     private LocationUtil locationUtil;
     private PlayerStatusManager playerStatusManager;
+    private SessionRouter sessionRouter;
+    private EffectQueue effectQueue;
+    private QualityController qualityController;
+    private MonsterSuppressor monsterSuppressor;
+    private ArenaReloader arenaReloader;
+    private SpawnGenerator spawnGenerator;
+    private SpawnValidator spawnValidator;
+    private ChunkWarmer chunkWarmer;
+    private InventoryKeeper inventoryKeeper;
+    private GameCheckpointer checkpointer;
     
     @Override
     public void onEnable() {
@@ -19,14 +43,59 @@ public class SnowBallFight extends JavaPlugin {
             getDataFolder().mkdir();
         }
         
+        // Write config.yml with defaults on first run
+        saveDefaultConfig();
+        
+        // Pick the scheduler for classic or region-threaded servers
+        scheduler = TaskScheduler.create(this);
+        getLogger().info("Using " + (scheduler.isRegionThreaded() ? "region-threaded" : "main thread") + " scheduler");
+        
+        // Data files are saved on a background writer
+        fileWriter = new AsyncFileWriter(this, scheduler);
+        
         // Initialize location utility with data folder
-        locationUtil = new LocationUtil(this);
+        locationUtil = new LocationUtil(this, fileWriter);
         
         // Initialize player status manager
-        playerStatusManager = new PlayerStatusManager(this);
+        playerStatusManager = new PlayerStatusManager(this, scheduler);
+        
+        // Initialize event router shared by all arenas
+        sessionRouter = new SessionRouter();
+        
+        // Initialize the deferred effects queue, drained every tick
+        effectQueue = new EffectQueue(this, scheduler);
+        effectQueue.start();
+        
+        // Initialize the MSPT-driven effect quality controller
+        qualityController = new QualityController(this, scheduler);
+        qualityController.start();
+        
+        // Initialize arena monster suppression
+        monsterSuppressor = new MonsterSuppressor(scheduler, locationUtil);
+        
+        // Initialize spawn safety checks
+        spawnValidator = new SpawnValidator(this, scheduler, locationUtil);
+        
+        // Initialize arena chunk preloading
+        chunkWarmer = new ChunkWarmer(this, scheduler);
+        
+        // Initialize the keeper for players' own inventories during games
+        inventoryKeeper = new InventoryKeeper(this, scheduler, fileWriter);
+        
+        // Initialize crash checkpoints, picking up any game cut short last time
+        checkpointer = new GameCheckpointer(this, scheduler, fileWriter);
         
         // Initialize game manager
-        gameManager = new GameManager(this, locationUtil, playerStatusManager);
+        gameManager = new GameManager(this, scheduler, locationUtil, playerStatusManager, sessionRouter,
+                                      effectQueue, qualityController, monsterSuppressor, spawnValidator,
+                                      chunkWarmer, inventoryKeeper, checkpointer);
+        
+        // Reload the arena when its file is edited on disk
+        arenaReloader = new ArenaReloader(this, scheduler, locationUtil, gameManager);
+        arenaReloader.start();
+        
+        // Initialize the terrain scanner behind /generateSpawns
+        spawnGenerator = new SpawnGenerator(this, scheduler, locationUtil, gameManager::isGameActive);
         
         // Register commands
         registerCommands();
@@ -44,6 +113,18 @@ public class SnowBallFight extends JavaPlugin {
             gameManager.endGame();
         }
         
+        // Hand back inventories now rather than over the next few ticks
+        inventoryKeeper.restoreOnlineNow();
+        
+        // Stop any repeating tasks still running
+        arenaReloader.stop();
+        effectQueue.stop();
+        qualityController.stop();
+        scheduler.cancelAll();
+        
+        // Finish any saves still queued
+        fileWriter.shutdown();
+        
         getLogger().info("SnowBallFight plugin has been disabled!");
     }
     
@@ -52,23 +133,34 @@ public class SnowBallFight extends JavaPlugin {
         getCommand("createSpawn").setExecutor(new CreateSpawnCommand(locationUtil));
         getCommand("setLoserSpot").setExecutor(new SetLoserSpotCommand(locationUtil));
         getCommand("setWinnerSpot").setExecutor(new SetWinnerSpotCommand(locationUtil));
+        getCommand("generateSpawns").setExecutor(new GenerateSpawnsCommand(spawnGenerator, gameManager));
         
         // Register management commands
-        getCommand("startSnowBallFight").setExecutor(new StartGameCommand(gameManager, locationUtil));
-        getCommand("endGame").setExecutor(new EndGameCommand(gameManager));
+        getCommand("startSnowBallFight").setExecutor(new StartGameCommand(gameManager, locationUtil, scheduler));
+        getCommand("endGame").setExecutor(new EndGameCommand(gameManager, scheduler));
+        getCommand("resumeGame").setExecutor(new ResumeGameCommand(gameManager, checkpointer, scheduler));
         getCommand("score").setExecutor(new ScoreCommand(gameManager));
         
         // Register new commands
         getCommand("gameStatus").setExecutor(new GameStatusCommand(locationUtil));
         getCommand("resetGame").setExecutor(new ResetGameCommand(locationUtil));
+        getCommand("snowballStats").setExecutor(new StatsCommand(effectQueue, sessionRouter, qualityController,
+                                                                 monsterSuppressor, playerStatusManager, spawnValidator,
+                                                                 chunkWarmer, gameManager.getRespawnPipeline(),
+                                                                 gameManager.getMassTeleporter(), inventoryKeeper,
+                                                                 checkpointer, gameManager.getScoreboardPool()));
     }
     
     private void registerEventListeners() {
         // Register all event listeners
         getServer().getPluginManager().registerEvents(new PlayerJoinListener(gameManager, playerStatusManager), this);
-        getServer().getPluginManager().registerEvents(new PlayerMoveListener(gameManager), this);
-        getServer().getPluginManager().registerEvents(new ProjectileHitListener(gameManager), this);
-        getServer().getPluginManager().registerEvents(new PlayerQuitListener(gameManager), this);
-        getServer().getPluginManager().registerEvents(new ProjectileLaunchListener(gameManager), this);
+        getServer().getPluginManager().registerEvents(new PlayerMoveListener(sessionRouter), this);
+        getServer().getPluginManager().registerEvents(new ProjectileHitListener(sessionRouter), this);
+        getServer().getPluginManager().registerEvents(new PlayerQuitListener(sessionRouter, inventoryKeeper), this);
+        getServer().getPluginManager().registerEvents(new ProjectileLaunchListener(sessionRouter), this);
+        getServer().getPluginManager().registerEvents(new CreatureSpawnListener(monsterSuppressor), this);
+        getServer().getPluginManager().registerEvents(new PlayerStatusListener(), this);
+        getServer().getPluginManager().registerEvents(new ArenaWorldListener(locationUtil), this);
+        getServer().getPluginManager().registerEvents(new ArenaBlockListener(spawnValidator), this);
     }
 }
\ No newline at end of file
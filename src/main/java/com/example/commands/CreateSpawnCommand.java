@@ -24,7 +24,13 @@ public class CreateSpawnCommand implements CommandExecutor {
         Player player = (Player) sender;
         
         // Add the player's current location as a spawn point
-        locationUtil.addSpawnPoint(player.getLocation());
+        locationUtil.addSpawnPoint(player.getLocation(), saved -> {
+            if (saved) {
+                player.sendMessage(ChatColor.GRAY + "Spawn points saved to disk.");
+            } else {
+                player.sendMessage(ChatColor.RED + "Could not save the spawn points - check the server log.");
+            }
+        });
         
         player.sendMessage(ChatColor.GREEN + "Spawn point created at your current location!");
         return true;
@@ -1,6 +1,7 @@
 package com.example.commands;
 
 import com.example.managers.GameManager;
+import com.example.util.TaskScheduler;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -8,22 +9,27 @@ import org.bukkit.command.CommandSender;
 
 public class EndGameCommand implements CommandExecutor {
     private final GameManager gameManager;
+    private final TaskScheduler scheduler;
     
-    public EndGameCommand(GameManager gameManager) {
+    public EndGameCommand(GameManager gameManager, TaskScheduler scheduler) {
         this.gameManager = gameManager;
+        this.scheduler = scheduler;
     }
     
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
-        if (!gameManager.isGameActive()) {
-            sender.sendMessage(ChatColor.RED + "No game is currently active!");
-            return true;
-        }
-        
-        // End the game
-        gameManager.endGame();
-        
-        sender.sendMessage(ChatColor.GREEN + "Game ended!");
+        // Games only start and end on the global region; a player's command runs on their own region
+        scheduler.executeGlobal(() -> {
+            if (!gameManager.isGameActive()) {
+                sender.sendMessage(ChatColor.RED + "No game is currently active!");
+                return;
+            }
+            
+            // End the game
+            gameManager.endGame();
+            
+            sender.sendMessage(ChatColor.GREEN + "Game ended!");
+        });
         return true;
     }
 }
\ No newline at end of file
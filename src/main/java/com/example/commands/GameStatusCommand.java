@@ -1,5 +1,6 @@
 package com.example.commands;
 
+import com.example.util.ArenaGeometry;
 import com.example.util.LocationUtil;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
@@ -7,8 +8,6 @@ import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 
-import java.util.List;
-
 public class GameStatusCommand implements CommandExecutor {
     private final LocationUtil locationUtil;
     
@@ -32,18 +31,19 @@ public class GameStatusCommand implements CommandExecutor {
         }
         
         // Check spawn points
-        List<Location> spawnPoints = locationUtil.getSpawnPoints();
-        if (spawnPoints == null || spawnPoints.isEmpty()) {
+        ArenaGeometry geometry = locationUtil.getGeometry();
+        int spawnCount = geometry.getSpawnCount();
+        if (!geometry.hasSpawnPoints()) {
             sender.sendMessage(ChatColor.RED + "✗ Spawn Points: " + ChatColor.WHITE + "Not set. Use /createSpawn to add spawn points.");
-        } else if (spawnPoints.size() < playerCount) {
+        } else if (spawnCount < playerCount) {
             sender.sendMessage(ChatColor.RED + "✗ Spawn Points: " + ChatColor.WHITE + 
-                              spawnPoints.size() + "/" + playerCount + " (Need at least one per player)");
+                              spawnCount + "/" + playerCount + " (Need at least one per player)");
         } else {
-            sender.sendMessage(ChatColor.GREEN + "✓ Spawn Points: " + ChatColor.WHITE + spawnPoints.size() + " points set");
+            sender.sendMessage(ChatColor.GREEN + "✓ Spawn Points: " + ChatColor.WHITE + spawnCount + " points set");
         }
         
         // Check middle point (calculated)
-        Location middle = locationUtil.getMiddlePoint();
+        Location middle = geometry.getCenter();
         
         if (middle == null) {
             sender.sendMessage(ChatColor.RED + "✗ Middle Point: " + ChatColor.WHITE + 
@@ -55,27 +55,14 @@ public class GameStatusCommand implements CommandExecutor {
                              Math.round(middle.getY()) + ", " + 
                              Math.round(middle.getZ()) + ")");
             
-            // Calculate recommended boundary distance if middle point is available
-            double maxDistance = 0;
-            for (Location spawn : spawnPoints) {
-                // Only consider X and Z for the distance calculation
-                double dx = spawn.getX() - middle.getX();
-                double dz = spawn.getZ() - middle.getZ();
-                double distance = Math.sqrt(dx * dx + dz * dz);
-                
-                if (distance > maxDistance) {
-                    maxDistance = distance;
-                }
-            }
-            
             // Minimum boundary is furthest spawn point + 10 blocks
-            int minimumBoundary = (int) Math.ceil(maxDistance + 10);
+            int minimumBoundary = (int) Math.ceil(geometry.getMinimumBoundary());
             sender.sendMessage(ChatColor.YELLOW + "ℹ Boundary distance: " + ChatColor.WHITE + 
                              minimumBoundary + "+ blocks (based on furthest spawn point)");
         }
         
         // Check loser spot
-        if (locationUtil.getLoserSpot() == null) {
+        if (!geometry.hasLoserSpot()) {
             sender.sendMessage(ChatColor.RED + "✗ Loser Spot: " + ChatColor.WHITE + "Not set. Use /setLoserSpot to set the loser area.");
         } else {
             Location loserSpot = locationUtil.getLoserSpot();
@@ -86,7 +73,7 @@ public class GameStatusCommand implements CommandExecutor {
         }
         
         // Check winner spot
-        if (locationUtil.getWinnerSpot() == null) {
+        if (!geometry.hasWinnerSpot()) {
             sender.sendMessage(ChatColor.RED + "✗ Winner Spot: " + ChatColor.WHITE + "Not set. Use /setWinnerSpot to set the winner area.");
         } else {
             Location winnerSpot = locationUtil.getWinnerSpot();
@@ -97,13 +84,9 @@ public class GameStatusCommand implements CommandExecutor {
         }
         
         // Overall status
-        boolean spawnPointsSet = spawnPoints != null && !spawnPoints.isEmpty();
-        boolean middlePointAvailable = middle != null;
-        boolean loserSpotSet = locationUtil.getLoserSpot() != null;
-        boolean winnerSpotSet = locationUtil.getWinnerSpot() != null;
         boolean enoughPlayers = playerCount >= 2;
-        boolean enoughSpawnPoints = spawnPoints != null && spawnPoints.size() >= playerCount;
-        boolean readyToStart = spawnPointsSet && middlePointAvailable && loserSpotSet && winnerSpotSet && enoughPlayers && enoughSpawnPoints;
+        boolean enoughSpawnPoints = spawnCount >= playerCount;
+        boolean readyToStart = geometry.isComplete() && enoughPlayers && enoughSpawnPoints;
         
         sender.sendMessage("");
         if (readyToStart) {
@@ -0,0 +1,95 @@
+package com.example.commands;
+
+import com.example.managers.GameManager;
+import com.example.managers.SpawnGenerator;
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+public class GenerateSpawnsCommand implements CommandExecutor {
+    private final SpawnGenerator spawnGenerator;
+    private final GameManager gameManager;
+    
+    public GenerateSpawnsCommand(SpawnGenerator spawnGenerator, GameManager gameManager) {
+        this.spawnGenerator = spawnGenerator;
+        this.gameManager = gameManager;
+    }
+    
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (!(sender instanceof Player)) {
+            sender.sendMessage(ChatColor.RED + "This command can only be executed by a player!");
+            return true;
+        }
+        
+        if (args.length < 2) {
+            sender.sendMessage(ChatColor.RED + "Usage: /generateSpawns <radius> <count>");
+            return false;
+        }
+        
+        int radius;
+        int count;
+        
+        try {
+            radius = Integer.parseInt(args[0]);
+            count = Integer.parseInt(args[1]);
+        } catch (NumberFormatException e) {
+            sender.sendMessage(ChatColor.RED + "Invalid number! Usage: /generateSpawns <radius> <count>");
+            return false;
+        }
+        
+        if (radius <= 0 || radius > SpawnGenerator.MAX_RADIUS) {
+            sender.sendMessage(ChatColor.RED + "Radius must be between 1 and " + SpawnGenerator.MAX_RADIUS + "!");
+            return true;
+        }
+        
+        if (count <= 0) {
+            sender.sendMessage(ChatColor.RED + "Count must be a positive number!");
+            return true;
+        }
+        
+        // Spawn points can't change under a running game
+        if (gameManager.isGameActive()) {
+            sender.sendMessage(ChatColor.RED + "Cannot generate spawn points while a game is in progress!");
+            return true;
+        }
+        
+        Player player = (Player) sender;
+        
+        // Scan the terrain around the player in the background
+        boolean started = spawnGenerator.generate(player.getLocation(), radius, count, result -> {
+            if (result.getSpawnCount() == 0) {
+                player.sendMessage(ChatColor.RED + "No safe places to stand were found within " + radius + " blocks.");
+                return;
+            }
+            
+            player.sendMessage(ChatColor.GREEN + "Generated " + result.getSpawnCount() + " spawn points " +
+                              ChatColor.GRAY + "(" + result.getCandidateCount() + " safe columns in " +
+                              result.getChunkCount() + " chunks, " + result.getElapsedMillis() + "ms)");
+            if (result.getSpawnCount() < count) {
+                player.sendMessage(ChatColor.YELLOW + "Only " + result.getSpawnCount() + " of " + count +
+                                  " fit - try a larger radius.");
+            }
+            if (result.isDeferred()) {
+                player.sendMessage(ChatColor.YELLOW + "A game started while scanning, so they will be added " +
+                                  "when it ends.");
+            }
+        }, saved -> {
+            if (saved) {
+                player.sendMessage(ChatColor.GRAY + "Spawn points saved to disk.");
+            } else {
+                player.sendMessage(ChatColor.RED + "Could not save the spawn points - check the server log.");
+            }
+        });
+        
+        if (!started) {
+            sender.sendMessage(ChatColor.RED + "Spawn points are already being generated, please wait.");
+            return true;
+        }
+        
+        sender.sendMessage(ChatColor.YELLOW + "Scanning terrain within " + radius + " blocks for " + count + " spawn points...");
+        return true;
+    }
+}
@@ -15,19 +15,19 @@ public class ResetGameCommand implements CommandExecutor {
     
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
-        // Reset all location settings
-        boolean success = locationUtil.resetAllLocations();
-        
-        if (success) {
-            sender.sendMessage(ChatColor.GREEN + "All game settings have been reset!");
-            sender.sendMessage(ChatColor.YELLOW + "You'll need to set up the game again:");
-            sender.sendMessage(ChatColor.WHITE + "1. Create spawn points with " + ChatColor.YELLOW + "/createSpawn");
-            sender.sendMessage(ChatColor.WHITE + "2. Set the middle point with " + ChatColor.YELLOW + "/setMiddle");
-            sender.sendMessage(ChatColor.WHITE + "3. Set the loser spot with " + ChatColor.YELLOW + "/setLoserSpot");
-            sender.sendMessage(ChatColor.WHITE + "4. Set the winner spot with " + ChatColor.YELLOW + "/setWinnerSpot");
-        } else {
-            sender.sendMessage(ChatColor.RED + "Failed to reset game settings.");
-        }
+        // Reset all location settings; the files are deleted in the background
+        locationUtil.resetAllLocations(success -> {
+            if (success) {
+                sender.sendMessage(ChatColor.GREEN + "All game settings have been reset!");
+                sender.sendMessage(ChatColor.YELLOW + "You'll need to set up the game again:");
+                sender.sendMessage(ChatColor.WHITE + "1. Create spawn points with " + ChatColor.YELLOW + "/createSpawn");
+                sender.sendMessage(ChatColor.WHITE + "2. Set the middle point with " + ChatColor.YELLOW + "/setMiddle");
+                sender.sendMessage(ChatColor.WHITE + "3. Set the loser spot with " + ChatColor.YELLOW + "/setLoserSpot");
+                sender.sendMessage(ChatColor.WHITE + "4. Set the winner spot with " + ChatColor.YELLOW + "/setWinnerSpot");
+            } else {
+                sender.sendMessage(ChatColor.RED + "Failed to reset game settings.");
+            }
+        });
         
         return true;
     }
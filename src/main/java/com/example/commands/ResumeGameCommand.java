@@ -0,0 +1,76 @@
+package com.example.commands;
+
+import com.example.managers.GameCheckpoint;
+import com.example.managers.GameCheckpointer;
+import com.example.managers.GameManager;
+import com.example.util.TaskScheduler;
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+
+import java.util.concurrent.TimeUnit;
+
+public class ResumeGameCommand implements CommandExecutor {
+    private final GameManager gameManager;
+    private final GameCheckpointer checkpointer;
+    private final TaskScheduler scheduler;
+
+    public ResumeGameCommand(GameManager gameManager, GameCheckpointer checkpointer, TaskScheduler scheduler) {
+        this.gameManager = gameManager;
+        this.checkpointer = checkpointer;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        // Games only start and end on the global region; a player's command runs on their own region
+        boolean discard = args.length > 0 && args[0].equalsIgnoreCase("discard");
+        scheduler.executeGlobal(() -> resume(sender, discard));
+        return true;
+    }
+
+    private void resume(CommandSender sender, boolean discard) {
+        GameCheckpoint checkpoint = checkpointer.getUnfinished();
+        if (checkpoint == null) {
+            sender.sendMessage(ChatColor.RED + "There is no unfinished game to resume.");
+            return;
+        }
+
+        // Throw the saved game away instead of resuming it
+        if (discard) {
+            checkpointer.discardUnfinished();
+            sender.sendMessage(ChatColor.GREEN + "The unfinished game has been discarded.");
+            return;
+        }
+
+        if (gameManager.isGameActive()) {
+            sender.sendMessage(ChatColor.RED + "A game is already in progress! Use /endGame to end it.");
+            return;
+        }
+
+        // The winning hit landed just before the crash; nothing is left to play for
+        if (checkpoint.getHighestScore() >= checkpoint.getHitsToWin()) {
+            sender.sendMessage(ChatColor.RED + "The unfinished game had already been won. Use " +
+                              ChatColor.YELLOW + "/resumeGame discard" + ChatColor.RED + " to clear it.");
+            return;
+        }
+
+        long minutesAgo = TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis() - checkpoint.getSavedAt());
+        sender.sendMessage(ChatColor.YELLOW + "Resuming the game saved " + ChatColor.WHITE + minutesAgo + " minutes ago" +
+                          ChatColor.YELLOW + " (" + ChatColor.WHITE + checkpoint.getScores().size() + " players" +
+                          ChatColor.YELLOW + ", phase " + ChatColor.WHITE + checkpoint.getPhase().name().toLowerCase() +
+                          ChatColor.YELLOW + ")");
+
+        gameManager.resumeGame(checkpoint);
+
+        // Starting checks failed; they are logged by the game manager
+        if (!gameManager.isGameActive()) {
+            sender.sendMessage(ChatColor.RED + "Could not resume the game - check /gameStatus and the server log.");
+            return;
+        }
+
+        sender.sendMessage(ChatColor.GREEN + "SnowBall Fight has resumed! " +
+                          ChatColor.YELLOW + "First to " + checkpoint.getHitsToWin() + " hits wins!");
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.commands;
 
 import com.example.managers.GameManager;
+import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -14,7 +15,12 @@ public class ScoreCommand implements CommandExecutor {
     
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
-        // Show scoreboard to all players
+        if (!gameManager.isGameActive()) {
+            sender.sendMessage(ChatColor.RED + "No game is currently active!");
+            return true;
+        }
+        
+        // Show scoreboard to everyone in the game
         gameManager.showScoreboard();
         return true;
     }
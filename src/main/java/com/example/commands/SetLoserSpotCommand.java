@@ -24,7 +24,13 @@ public class SetLoserSpotCommand implements CommandExecutor {
         Player player = (Player) sender;
         
         // Set the loser spot to the player's current location
-        locationUtil.setLoserSpot(player.getLocation());
+        locationUtil.setLoserSpot(player.getLocation(), saved -> {
+            if (saved) {
+                player.sendMessage(ChatColor.GRAY + "Loser spot saved to disk.");
+            } else {
+                player.sendMessage(ChatColor.RED + "Could not save the loser spot - check the server log.");
+            }
+        });
         
         player.sendMessage(ChatColor.GREEN + "Loser spot set at your current location!");
         return true;
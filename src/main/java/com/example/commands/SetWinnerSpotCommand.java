@@ -24,7 +24,13 @@ public class SetWinnerSpotCommand implements CommandExecutor {
         Player player = (Player) sender;
         
         // Set the winner spot to the player's current location
-        locationUtil.setWinnerSpot(player.getLocation());
+        locationUtil.setWinnerSpot(player.getLocation(), saved -> {
+            if (saved) {
+                player.sendMessage(ChatColor.GRAY + "Winner spot saved to disk.");
+            } else {
+                player.sendMessage(ChatColor.RED + "Could not save the winner spot - check the server log.");
+            }
+        });
         
         player.sendMessage(ChatColor.GREEN + "Winner spot set at your current location!");
         return true;
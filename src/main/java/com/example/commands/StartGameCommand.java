@@ -1,31 +1,28 @@
 package com.example.commands;
 
 import com.example.managers.GameManager;
+import com.example.util.ArenaGeometry;
 import com.example.util.LocationUtil;
+import com.example.util.TaskScheduler;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
-import org.bukkit.entity.Player;
-import java.util.List;
 
 public class StartGameCommand implements CommandExecutor {
     private final GameManager gameManager;
     private final LocationUtil locationUtil;
+    private final TaskScheduler scheduler;
     
-    public StartGameCommand(GameManager gameManager, LocationUtil locationUtil) {
+    public StartGameCommand(GameManager gameManager, LocationUtil locationUtil, TaskScheduler scheduler) {
         this.gameManager = gameManager;
         this.locationUtil = locationUtil;
+        this.scheduler = scheduler;
     }
     
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
-        // Run validation checks first
-        if (!validateGameStart(sender)) {
-            return true;
-        }
-        
         if (args.length < 1) {
             sender.sendMessage(ChatColor.RED + "Usage: /startSnowBallFight <hits-to-win>");
             return false;
@@ -45,30 +42,27 @@ public class StartGameCommand implements CommandExecutor {
             return false;
         }
         
+        // Games only start and end on the global region; a player's command runs on their own region
+        scheduler.executeGlobal(() -> start(sender, hitsToWin));
+        return true;
+    }
+    
+    private void start(CommandSender sender, int hitsToWin) {
+        // Run validation checks first
+        if (!validateGameStart(sender)) {
+            return;
+        }
+        
         // Ensure middle point is calculated
-        Location middle = locationUtil.getMiddlePoint();
+        ArenaGeometry geometry = locationUtil.getGeometry();
+        Location middle = geometry.getCenter();
         if (middle == null) {
             sender.sendMessage(ChatColor.RED + "Cannot calculate middle point. Create spawn points first!");
-            return true;
-        }
-        
-        // Calculate boundary distance automatically
-        List<Location> spawnPoints = locationUtil.getSpawnPoints();
-        
-        double maxDistance = 0;
-        for (Location spawn : spawnPoints) {
-            // Only consider X and Z for the distance calculation
-            double dx = spawn.getX() - middle.getX();
-            double dz = spawn.getZ() - middle.getZ();
-            double distance = Math.sqrt(dx * dx + dz * dz);
-            
-            if (distance > maxDistance) {
-                maxDistance = distance;
-            }
+            return;
         }
         
         // Set boundary to furthest spawn point + 20 blocks for safety
-        double boundaryDistance = maxDistance + 20;
+        double boundaryDistance = geometry.getRecommendedBoundary();
         
         // Display information about middle point
         sender.sendMessage(ChatColor.YELLOW + "Using automatically calculated middle point at " + 
@@ -82,8 +76,6 @@ public class StartGameCommand implements CommandExecutor {
         // Announce the game start
         sender.sendMessage(ChatColor.GREEN + "SnowBall Fight has started! " + 
                           ChatColor.YELLOW + "First to " + hitsToWin + " hits wins!");
-        
-        return true;
     }
     
     /**
@@ -98,21 +90,22 @@ public class StartGameCommand implements CommandExecutor {
             return false;
         }
         
+        ArenaGeometry geometry = locationUtil.getGeometry();
+        
         // Check if winner spot is set
-        if (locationUtil.getWinnerSpot() == null) {
+        if (!geometry.hasWinnerSpot()) {
             sender.sendMessage(ChatColor.RED + "Winner spot not set! Use /setWinnerSpot to set it.");
             return false;
         }
         
         // Check if loser spot is set
-        if (locationUtil.getLoserSpot() == null) {
+        if (!geometry.hasLoserSpot()) {
             sender.sendMessage(ChatColor.RED + "Loser spot not set! Use /setLoserSpot to set it.");
             return false;
         }
         
         // Check if spawn points are set
-        List<Location> spawnPoints = locationUtil.getSpawnPoints();
-        if (spawnPoints == null || spawnPoints.isEmpty()) {
+        if (!geometry.hasSpawnPoints()) {
             sender.sendMessage(ChatColor.RED + "No spawn points set! Use /createSpawn to create spawn points.");
             return false;
         }
@@ -125,9 +118,9 @@ public class StartGameCommand implements CommandExecutor {
         }
         
         // Check if there are enough spawn points for all players
-        if (spawnPoints.size() < playerCount) {
+        if (geometry.getSpawnCount() < playerCount) {
             sender.sendMessage(ChatColor.RED + "Not enough spawn points! Need at least " + playerCount + 
-                             " spawn points for all players. Currently have " + spawnPoints.size() + ".");
+                             " spawn points for all players. Currently have " + geometry.getSpawnCount() + ".");
             return false;
         }
         
@@ -0,0 +1,117 @@
+package com.example.commands;
+
+import com.example.managers.ChunkWarmer;
+import com.example.managers.EffectQueue;
+import com.example.managers.GameCheckpointer;
+import com.example.managers.InventoryKeeper;
+import com.example.managers.MassTeleporter;
+import com.example.managers.MonsterSuppressor;
+import com.example.managers.PlayerStatusManager;
+import com.example.managers.QualityController;
+import com.example.managers.RespawnPipeline;
+import com.example.managers.ScoreboardPool;
+import com.example.managers.SessionRouter;
+import com.example.managers.SpawnValidator;
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+
+public class StatsCommand implements CommandExecutor {
+    private final EffectQueue effectQueue;
+    private final SessionRouter sessionRouter;
+    private final QualityController qualityController;
+    private final MonsterSuppressor monsterSuppressor;
+    private final PlayerStatusManager playerStatusManager;
+    private final SpawnValidator spawnValidator;
+    private final ChunkWarmer chunkWarmer;
+    private final RespawnPipeline respawnPipeline;
+    private final MassTeleporter massTeleporter;
+    private final InventoryKeeper inventoryKeeper;
+    private final GameCheckpointer checkpointer;
+    private final ScoreboardPool scoreboardPool;
+    
+    public StatsCommand(EffectQueue effectQueue, SessionRouter sessionRouter, QualityController qualityController,
+                        MonsterSuppressor monsterSuppressor, PlayerStatusManager playerStatusManager,
+                        SpawnValidator spawnValidator, ChunkWarmer chunkWarmer, RespawnPipeline respawnPipeline,
+                        MassTeleporter massTeleporter, InventoryKeeper inventoryKeeper,
+                        GameCheckpointer checkpointer, ScoreboardPool scoreboardPool) {
+        this.effectQueue = effectQueue;
+        this.sessionRouter = sessionRouter;
+        this.qualityController = qualityController;
+        this.monsterSuppressor = monsterSuppressor;
+        this.playerStatusManager = playerStatusManager;
+        this.spawnValidator = spawnValidator;
+        this.chunkWarmer = chunkWarmer;
+        this.respawnPipeline = respawnPipeline;
+        this.massTeleporter = massTeleporter;
+        this.inventoryKeeper = inventoryKeeper;
+        this.checkpointer = checkpointer;
+        this.scoreboardPool = scoreboardPool;
+    }
+    
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        sender.sendMessage(ChatColor.GOLD + "=== SnowBallFight Stats ===");
+        
+        // Adaptive effect quality
+        sender.sendMessage(ChatColor.YELLOW + "Effect quality: " + ChatColor.WHITE + qualityController.getLevel() + 
+                          ChatColor.YELLOW + " (MSPT " + ChatColor.WHITE + 
+                          String.format("%.1f", qualityController.getSmoothedMspt()) + ChatColor.YELLOW + ")");
+        
+        // Event routing
+        sender.sendMessage(ChatColor.YELLOW + "Routed players: " + ChatColor.WHITE + sessionRouter.getBoundPlayerCount());
+        sender.sendMessage(ChatColor.YELLOW + "Tracked snowballs: " + ChatColor.WHITE + sessionRouter.getTrackedProjectileCount());
+        
+        // Deferred effects queue
+        sender.sendMessage(ChatColor.YELLOW + "Effect queue depth: " + ChatColor.WHITE + effectQueue.getDepth());
+        sender.sendMessage(ChatColor.YELLOW + "Effects run: " + ChatColor.WHITE + effectQueue.getExecutedCount() + 
+                          ChatColor.YELLOW + ", dropped: " + ChatColor.WHITE + effectQueue.getDroppedCount() + 
+                          ChatColor.YELLOW + ", over-budget ticks: " + ChatColor.WHITE + effectQueue.getDeferredTickCount());
+        
+        // Arena monster suppression
+        sender.sendMessage(ChatColor.YELLOW + "Monster spawns blocked: " + ChatColor.WHITE + monsterSuppressor.getSuppressedSpawnCount() + 
+                          ChatColor.YELLOW + ", removed: " + ChatColor.WHITE + monsterSuppressor.getRemovedMonsterCount());
+        
+        // Player status audit
+        sender.sendMessage(ChatColor.YELLOW + "Status corrections - game mode: " + ChatColor.WHITE + playerStatusManager.getGameModeCorrections() + 
+                          ChatColor.YELLOW + ", health: " + ChatColor.WHITE + playerStatusManager.getHealthCorrections() + 
+                          ChatColor.YELLOW + ", hunger: " + ChatColor.WHITE + playerStatusManager.getHungerCorrections());
+        
+        // Spawn safety checks
+        sender.sendMessage(ChatColor.YELLOW + "Unsafe spawns skipped: " + ChatColor.WHITE + spawnValidator.getUnsafeCount());
+        
+        // Arena chunk preloading
+        long warmupMillis = chunkWarmer.getLastWarmupMillis();
+        sender.sendMessage(ChatColor.YELLOW + "Arena warm-up: " + ChatColor.WHITE + 
+                          (warmupMillis < 0 ? "not run yet" : chunkWarmer.getLastWarmupChunks() + " chunks in " + warmupMillis + "ms") + 
+                          ChatColor.YELLOW + ", pinned now: " + ChatColor.WHITE + chunkWarmer.getHeldChunkCount());
+        
+        // Hit player respawns
+        sender.sendMessage(ChatColor.YELLOW + "Respawns in flight: " + ChatColor.WHITE + respawnPipeline.getInFlightCount() + 
+                          ChatColor.YELLOW + ", completed: " + ChatColor.WHITE + respawnPipeline.getCompletedCount() + 
+                          ChatColor.YELLOW + ", failed teleports: " + ChatColor.WHITE + respawnPipeline.getFailedTeleportCount());
+        sender.sendMessage(ChatColor.YELLOW + "Respawn latency avg/max: " + ChatColor.WHITE + 
+                          String.format("%.1f/%.1fms", respawnPipeline.getAverageLatencyMillis(), respawnPipeline.getMaxLatencyMillis()));
+        
+        // Game start and end teleport waves
+        long waveMillis = massTeleporter.getLastWaveMillis();
+        sender.sendMessage(ChatColor.YELLOW + "Last teleport wave: " + ChatColor.WHITE + 
+                          (waveMillis < 0 ? "not run yet" : massTeleporter.getLastWaveSize() + " players in " + waveMillis + "ms"));
+        
+        // Players' own inventories held during games
+        sender.sendMessage(ChatColor.YELLOW + "Inventories held: " + ChatColor.WHITE + inventoryKeeper.getHeldCount() + 
+                          ChatColor.YELLOW + ", waiting to be restored: " + ChatColor.WHITE + inventoryKeeper.getPendingRestoreCount());
+        
+        // Crash checkpoints
+        sender.sendMessage(ChatColor.YELLOW + "Checkpoints written: " + ChatColor.WHITE + checkpointer.getWrittenCount() + 
+                          ChatColor.YELLOW + ", skipped unchanged: " + ChatColor.WHITE + checkpointer.getSkippedCount());
+        
+        // Plugin scoreboards
+        sender.sendMessage(ChatColor.YELLOW + "Live scoreboards: " + ChatColor.WHITE + scoreboardPool.getLiveCount() + 
+                          ChatColor.YELLOW + ", created since startup: " + ChatColor.WHITE + scoreboardPool.getCreatedCount());
+        
+        sender.sendMessage(ChatColor.GOLD + "==========================");
+        return true;
+    }
+}
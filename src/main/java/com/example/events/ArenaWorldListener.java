@@ -0,0 +1,20 @@
+package com.example.events;
+
+import com.example.util.LocationUtil;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+
+public class ArenaWorldListener implements Listener {
+    private final LocationUtil locationUtil;
+    
+    public ArenaWorldListener(LocationUtil locationUtil) {
+        this.locationUtil = locationUtil;
+    }
+    
+    @EventHandler
+    public void onWorldLoad(WorldLoadEvent event) {
+        // Arena locations saved in a world that loads late are bound to it now
+        locationUtil.bindWorld(event.getWorld());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.events;
+
+import com.example.managers.MonsterSuppressor;
+import org.bukkit.entity.Monster;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.CreatureSpawnEvent;
+
+public class CreatureSpawnListener implements Listener {
+    private final MonsterSuppressor monsterSuppressor;
+    
+    public CreatureSpawnListener(MonsterSuppressor monsterSuppressor) {
+        this.monsterSuppressor = monsterSuppressor;
+    }
+    
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onCreatureSpawn(CreatureSpawnEvent event) {
+        // Only monsters are kept out; animals and other mobs spawn as normal
+        if (!(event.getEntity() instanceof Monster)) {
+            return;
+        }
+        
+        if (monsterSuppressor.shouldSuppress(event.getLocation())) {
+            event.setCancelled(true);
+        }
+    }
+}
@@ -1,28 +1,35 @@
 package com.example.events;
 
 import com.example.managers.GameManager;
+import com.example.managers.SessionRouter;
+import org.bukkit.Location;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 
 public class PlayerMoveListener implements Listener {
-    private final GameManager gameManager;
+    private final SessionRouter sessionRouter;
     
-    public PlayerMoveListener(GameManager gameManager) {
-        this.gameManager = gameManager;
+    public PlayerMoveListener(SessionRouter sessionRouter) {
+        this.sessionRouter = sessionRouter;
     }
     
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        // Only handle movement if a game is active
-        if (gameManager.isGameActive()) {
-            // Check if the player moved (change in x, y, or z)
-            if (event.getTo().getX() != event.getFrom().getX() || 
-                event.getTo().getY() != event.getFrom().getY() || 
-                event.getTo().getZ() != event.getFrom().getZ()) {
-                
-                gameManager.handlePlayerMove(event.getPlayer(), event.getTo());
-            }
+        // Only handle movement for players taking part in a game
+        GameManager session = sessionRouter.getPlayerSession(event.getPlayer().getEntityId());
+        if (session == null) {
+            return;
+        }
+        
+        // Check if the player moved (change in x, y, or z)
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (to.getX() != from.getX() || 
+            to.getY() != from.getY() || 
+            to.getZ() != from.getZ()) {
+            
+            session.handlePlayerMove(event.getPlayer(), to);
         }
     }
 }
@@ -1,20 +1,30 @@
 package com.example.events;
 
 import com.example.managers.GameManager;
+import com.example.managers.InventoryKeeper;
+import com.example.managers.SessionRouter;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 public class PlayerQuitListener implements Listener {
-    private final GameManager gameManager;
+    private final SessionRouter sessionRouter;
+    private final InventoryKeeper inventoryKeeper;
     
-    public PlayerQuitListener(GameManager gameManager) {
-        this.gameManager = gameManager;
+    public PlayerQuitListener(SessionRouter sessionRouter, InventoryKeeper inventoryKeeper) {
+        this.sessionRouter = sessionRouter;
+        this.inventoryKeeper = inventoryKeeper;
     }
     
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
         // Handle player quitting during a game
-        gameManager.handlePlayerQuit(event.getPlayer());
+        GameManager session = sessionRouter.getPlayerSession(event.getPlayer().getEntityId());
+        if (session != null) {
+            session.handlePlayerQuit(event.getPlayer());
+        }
+        
+        // Leave with their own items, whether mid-game or still waiting for them after one
+        inventoryKeeper.restore(event.getPlayer());
     }
 }
@@ -0,0 +1,55 @@
+package com.example.events;
+
+import org.bukkit.GameMode;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Snowball;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.FoodLevelChangeEvent;
+import org.bukkit.event.player.PlayerGameModeChangeEvent;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public class PlayerStatusListener implements Listener {
+    // Damage that must still reach the player, or they could be stuck falling or outside the border forever
+    private static final Set<EntityDamageEvent.DamageCause> ALWAYS_ALLOWED = EnumSet.of(
+            EntityDamageEvent.DamageCause.VOID,
+            EntityDamageEvent.DamageCause.KILL,
+            EntityDamageEvent.DamageCause.SUICIDE,
+            EntityDamageEvent.DamageCause.WORLD_BORDER);
+    
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onFoodLevelChange(FoodLevelChangeEvent event) {
+        // Players never lose hunger; eating is still allowed
+        if (event.getEntity() instanceof Player && event.getFoodLevel() < event.getEntity().getFoodLevel()) {
+            event.setCancelled(true);
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onEntityDamage(EntityDamageEvent event) {
+        if (!(event.getEntity() instanceof Player) || ALWAYS_ALLOWED.contains(event.getCause())) {
+            return;
+        }
+        
+        // Snowball hits are the game itself; let them through for the knockback
+        if (event instanceof EntityDamageByEntityEvent
+                && ((EntityDamageByEntityEvent) event).getDamager() instanceof Snowball) {
+            return;
+        }
+        
+        event.setCancelled(true);
+    }
+    
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onGameModeChange(PlayerGameModeChangeEvent event) {
+        // Players stay in adventure mode
+        if (event.getNewGameMode() != GameMode.ADVENTURE) {
+            event.setCancelled(true);
+        }
+    }
+}
@@ -1,34 +1,39 @@
 package com.example.events;
 
 import com.example.managers.GameManager;
+import com.example.managers.SessionRouter;
 import org.bukkit.entity.Player;
-import org.bukkit.entity.Snowball;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.ProjectileHitEvent;
 
 public class ProjectileHitListener implements Listener {
-    private final GameManager gameManager;
+    private final SessionRouter sessionRouter;
     
-    public ProjectileHitListener(GameManager gameManager) {
-        this.gameManager = gameManager;
+    public ProjectileHitListener(SessionRouter sessionRouter) {
+        this.sessionRouter = sessionRouter;
     }
     
     @EventHandler
     public void onProjectileHit(ProjectileHitEvent event) {
-        // Check if it's a snowball and a game is active
-        if (gameManager.isGameActive() && event.getEntity() instanceof Snowball) {
-            // Check if the snowball hit a player
-            if (event.getHitEntity() instanceof Player) {
-                // Check if the snowball was thrown by a player
-                if (event.getEntity().getShooter() instanceof Player) {
-                    Player thrower = (Player) event.getEntity().getShooter();
-                    Player hit = (Player) event.getHitEntity();
-                    
-                    // Handle the hit
-                    gameManager.handleSnowballHit(thrower, hit);
+        // Only snowballs thrown inside a game are tracked by the router
+        GameManager session = sessionRouter.takeProjectile(event.getEntity().getEntityId());
+        if (session == null) {
+            return;
+        }
+        
+        // Check if the snowball hit a player
+        if (event.getHitEntity() instanceof Player) {
+            // Check if the snowball was thrown by a player
+            if (event.getEntity().getShooter() instanceof Player) {
+                Player thrower = (Player) event.getEntity().getShooter();
+                Player hit = (Player) event.getHitEntity();
+                
+                // Only count hits on players in the same arena
+                if (sessionRouter.getPlayerSession(hit.getEntityId()) == session) {
+                    session.handleSnowballHit(thrower, hit);
                 }
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,42 @@
 package com.example.events;
 
 import com.example.managers.GameManager;
+import com.example.managers.SessionRouter;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Snowball;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.ProjectileLaunchEvent;
+import org.bukkit.projectiles.ProjectileSource;
 
 public class ProjectileLaunchListener implements Listener {
-    private final GameManager gameManager;
+    private final SessionRouter sessionRouter;
     
-    public ProjectileLaunchListener(GameManager gameManager) {
-        this.gameManager = gameManager;
+    public ProjectileLaunchListener(SessionRouter sessionRouter) {
+        this.sessionRouter = sessionRouter;
     }
     
     @EventHandler
     public void onProjectileLaunch(ProjectileLaunchEvent event) {
+        if (!(event.getEntity() instanceof Snowball)) {
+            return;
+        }
+        
+        ProjectileSource shooter = event.getEntity().getShooter();
+        if (!(shooter instanceof Player)) {
+            return;
+        }
+        
+        // Ignore snowballs from players who aren't in a game
+        GameManager session = sessionRouter.getPlayerSession(((Player) shooter).getEntityId());
+        if (session == null) {
+            return;
+        }
+        
+        // Remember which arena this snowball belongs to for the hit event
+        sessionRouter.bindProjectile(event.getEntity(), session);
+        
         // Handle snowball launch events
-        gameManager.handleSnowballThrow(event);
+        session.handleSnowballThrow(event);
     }
 }
@@ -0,0 +1,108 @@
+package com.example.managers;
+
+import com.example.util.MessageTemplate;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends messages, titles and sounds to the players taking part in one arena's game.
+ * The participants form a single Adventure audience, so each broadcast is rendered once
+ * and handed to every member rather than rebuilt per player, and players elsewhere on the
+ * server hear and see nothing. Sounds are played once at the middle of the arena, loud
+ * enough to carry to the boundary, instead of once at each player's own position.
+ */
+public class ArenaBroadcaster {
+    private static final float BLOCKS_PER_VOLUME = 16.0f; // How far a sound at volume 1 carries
+
+    private final Set<Player> participants = ConcurrentHashMap.newKeySet();
+    private final Audience audience = Audience.audience(participants);
+    private final AtomicLong broadcastCount = new AtomicLong();
+    private volatile Location soundOrigin;
+    private volatile float minimumVolume;
+
+    /**
+     * Sets where arena-wide sounds come from and how far they need to carry
+     */
+    public void setArea(Location middle, double radius) {
+        this.soundOrigin = middle;
+        this.minimumVolume = (float) (radius / BLOCKS_PER_VOLUME);
+    }
+
+    /**
+     * Adds a player to the arena's audience
+     */
+    public void join(Player player) {
+        participants.add(player);
+    }
+
+    /**
+     * Removes a player from the arena's audience
+     */
+    public void leave(Player player) {
+        participants.remove(player);
+    }
+
+    /**
+     * Empties the audience once the game is over
+     */
+    public void clear() {
+        participants.clear();
+        soundOrigin = null;
+    }
+
+    /**
+     * Returns the players currently in the audience
+     */
+    public Collection<Player> getParticipants() {
+        return Collections.unmodifiableSet(participants);
+    }
+
+    /**
+     * Renders a message once and sends it to everyone in the arena
+     */
+    public void send(MessageTemplate template, Object... arguments) {
+        send(template.render(arguments));
+    }
+
+    public void send(Component message) {
+        broadcastCount.incrementAndGet();
+        audience.sendMessage(message);
+    }
+
+    public void showTitle(Title title) {
+        broadcastCount.incrementAndGet();
+        audience.showTitle(title);
+    }
+
+    /**
+     * Plays a sound once at the middle of the arena, or at each player if no area has been set
+     */
+    public void playSound(Sound sound) {
+        Location origin = soundOrigin;
+        if (origin == null) {
+            audience.playSound(sound, Sound.Emitter.self());
+            return;
+        }
+
+        // Louder only means it carries further; stretch the range to cover the boundary
+        Sound carried = sound.volume() >= minimumVolume ? sound : Sound.sound(sound).volume(minimumVolume).build();
+        audience.playSound(carried, origin.getX(), origin.getY(), origin.getZ());
+    }
+
+    /**
+     * Returns how many messages and titles have been broadcast since startup
+     */
+    public long getBroadcastCount() {
+        return broadcastCount.get();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.managers;
+
+import com.example.util.LocationUtil;
+import com.example.util.TaskScheduler;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Reloads the arena when its file is edited on disk.
+ * A background thread watches the plugin data folder; when the arena file changes it is
+ * read and validated on that thread, then swapped in on the global region if no game is
+ * running, or when the current game ends. A malformed file is logged and ignored.
+ */
+public class ArenaReloader {
+    private static final long SETTLE_MILLIS = 250; // Let editors finish writing before reading
+
+    private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    private final LocationUtil locationUtil;
+    private final GameManager gameManager;
+    private WatchService watchService;
+    private Thread watchThread;
+
+    public ArenaReloader(JavaPlugin plugin, TaskScheduler scheduler, LocationUtil locationUtil, GameManager gameManager) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.locationUtil = locationUtil;
+        this.gameManager = gameManager;
+    }
+
+    /**
+     * Starts watching the data folder
+     */
+    public void start() {
+        try {
+            watchService = plugin.getDataFolder().toPath().getFileSystem().newWatchService();
+            plugin.getDataFolder().toPath().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Arena hot reload is disabled: " + e.getMessage());
+            return;
+        }
+
+        watchThread = new Thread(this::watch, plugin.getName() + " Arena Watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    /**
+     * Stops watching; safe to call if start failed
+     */
+    public void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            // Wakes the watch thread with a ClosedWatchServiceException
+            watchService.close();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not stop the arena watcher: " + e.getMessage());
+        }
+    }
+
+    private void watch() {
+        String arenaFileName = locationUtil.getArenaFile().getName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    // An overflow means events were lost, so check the file anyway
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                        || arenaFileName.equals(((Path) event.context()).toString())) {
+                        changed = true;
+                    }
+                }
+                if (!key.reset()) {
+                    plugin.getLogger().warning("Data folder is no longer accessible; arena hot reload stopped");
+                    return;
+                }
+
+                if (changed) {
+                    Thread.sleep(SETTLE_MILLIS);
+                    if (locationUtil.stageReload()) {
+                        scheduler.executeGlobal(this::applyReload);
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Plugin is disabling
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void applyReload() {
+        // A running game keeps its arena; GameManager applies the change when the game ends
+        if (gameManager.isGameActive()) {
+            plugin.getLogger().info("Arena file changed; the new arena will be used after the current game");
+            return;
+        }
+
+        if (locationUtil.applyPendingReload()) {
+            plugin.getLogger().info("Reloaded arena with " + locationUtil.getGeometry().getSpawnCount() + " spawn points");
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.managers;
 
+import com.example.util.ArenaGeometry;
 import com.example.util.LocationUtil;
+import com.example.util.ParticleShape;
+import com.example.util.TaskHandle;
+import com.example.util.TaskScheduler;
 import org.bukkit.ChatColor;
 import org.bukkit.Color;
 import org.bukkit.Location;
@@ -10,22 +14,46 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Manages player movement boundaries and penalties
+ * Manages player movement boundaries and penalties.
+ * The boundary is drawn as a wall of particles, but only for players within a few blocks
+ * of the edge and only along the arc segments facing them, so its cost follows the number
+ * of players near the edge rather than the size of the arena.
  */
 public class BoundaryManager {
+    private static final long WALL_REFRESH_TICKS = 10L;
+    private static final double WALL_SEGMENT_LENGTH = 8.0; // Blocks of boundary per ring segment
+    private static final int WALL_ROWS = 3;
+    private static final Particle.DustOptions WALL_DUST = new Particle.DustOptions(Color.fromRGB(255, 0, 0), 1);
+    
     private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
     private final LocationUtil locationUtil;
     private final ScoreManager scoreManager;
-    private final Map<UUID, Location> lastValidLocations = new HashMap<>();
-    private final Set<UUID> warningGiven = new HashSet<>();
-    private double boundaryDistance;
+    private final QualityController qualityController;
+    // Move events for different players arrive on different region threads
+    private final Map<UUID, Location> lastValidLocations = new ConcurrentHashMap<>();
+    private final Set<UUID> warningGiven = ConcurrentHashMap.newKeySet();
+    private final Set<Player> nearEdgePlayers = ConcurrentHashMap.newKeySet();
+    private final double wallDistance;
+    private volatile double boundaryDistance;
+    
+    // Boundary ring split into arc segments, rebuilt whenever the boundary changes
+    private volatile ParticleShape[] wallSegments = new ParticleShape[0];
+    private volatile double centerX;
+    private volatile double centerZ;
+    private TaskHandle wallTask;
     
-    public BoundaryManager(JavaPlugin plugin, LocationUtil locationUtil, ScoreManager scoreManager) {
+    public BoundaryManager(JavaPlugin plugin, TaskScheduler scheduler, LocationUtil locationUtil,
+                           ScoreManager scoreManager, QualityController qualityController) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
         this.locationUtil = locationUtil;
         this.scoreManager = scoreManager;
+        this.qualityController = qualityController;
+        this.wallDistance = plugin.getConfig().getDouble("boundary.wall-distance", 8.0);
     }
     
     /**
@@ -35,6 +63,30 @@ public class BoundaryManager {
         this.boundaryDistance = boundaryDistance;
         lastValidLocations.clear();
         warningGiven.clear();
+        nearEdgePlayers.clear();
+        
+        ArenaGeometry geometry = locationUtil.getGeometry();
+        if (geometry.hasSpawnPoints()) {
+            centerX = geometry.getCenterX();
+            centerZ = geometry.getCenterZ();
+            wallSegments = buildWallSegments(boundaryDistance);
+        }
+        
+        // One refresh task draws the wall for every near-edge player
+        if (wallTask == null) {
+            wallTask = scheduler.runGlobalTimer(task -> renderWall(), WALL_REFRESH_TICKS, WALL_REFRESH_TICKS);
+        }
+    }
+    
+    /**
+     * Stops drawing the boundary when the game ends
+     */
+    public void cleanup() {
+        if (wallTask != null) {
+            wallTask.cancel();
+            wallTask = null;
+        }
+        nearEdgePlayers.clear();
     }
     
     /**
@@ -43,6 +95,59 @@ public class BoundaryManager {
     public void handlePlayerQuit(Player player) {
         lastValidLocations.remove(player.getUniqueId());
         warningGiven.remove(player.getUniqueId());
+        nearEdgePlayers.remove(player);
+    }
+    
+    /**
+     * Splits the boundary circle into arc segments of roughly equal length
+     */
+    private static ParticleShape[] buildWallSegments(double radius) {
+        int count = Math.max(16, (int) Math.ceil(2 * Math.PI * radius / WALL_SEGMENT_LENGTH));
+        double sweep = 2 * Math.PI / count;
+        // Two particles per block along the edge
+        int points = Math.max(2, (int) Math.ceil(sweep * radius * 2));
+        
+        ParticleShape[] segments = new ParticleShape[count];
+        for (int i = 0; i < count; i++) {
+            // Leave out the far endpoint so neighbouring segments don't overlap
+            segments[i] = ParticleShape.arc(radius, i * sweep, sweep - sweep / points, points);
+        }
+        return segments;
+    }
+    
+    /**
+     * Draws the wall segment facing each near-edge player, plus its neighbours
+     */
+    private void renderWall() {
+        ParticleShape[] segments = wallSegments;
+        if (segments.length == 0 || nearEdgePlayers.isEmpty()) {
+            return;
+        }
+        
+        for (Player player : nearEdgePlayers) {
+            scheduler.execute(player, () -> {
+                if (!player.isOnline()) {
+                    nearEdgePlayers.remove(player);
+                    return;
+                }
+                
+                Location loc = player.getLocation();
+                double angle = Math.atan2(loc.getZ() - centerZ, loc.getX() - centerX);
+                if (angle < 0) {
+                    angle += 2 * Math.PI;
+                }
+                int facing = (int) (angle / (2 * Math.PI) * segments.length) % segments.length;
+                int stride = qualityController.getLevel().getParticleStride();
+                
+                for (int offset = -1; offset <= 1; offset++) {
+                    ParticleShape segment = segments[(facing + offset + segments.length) % segments.length];
+                    for (int row = 0; row < WALL_ROWS; row++) {
+                        segment.stamp(player, Particle.REDSTONE, centerX, loc.getY() + row, centerZ,
+                                      stride, 1, 0, 0, WALL_DUST);
+                    }
+                }
+            });
+        }
     }
     
     /**
@@ -51,16 +156,22 @@ public class BoundaryManager {
     public boolean handlePlayerMove(Player player, Location to, boolean countdownActive) {
         if (countdownActive) {
             // Cancel movement during countdown
-            player.teleport(player.getLocation());
+            player.teleportAsync(player.getLocation());
             return false;
         }
         
         // Check if player is outside boundary - only check X and Z (horizontal)
-        Location middle = locationUtil.getMiddlePoint();
-        double dx = to.getX() - middle.getX();
-        double dz = to.getZ() - middle.getZ();
+        double dx = to.getX() - centerX;
+        double dz = to.getZ() - centerZ;
         double distance = Math.sqrt(dx * dx + dz * dz);
         
+        // Only players close to the edge are shown the wall
+        if (distance >= boundaryDistance - wallDistance) {
+            nearEdgePlayers.add(player);
+        } else {
+            nearEdgePlayers.remove(player);
+        }
+        
         if (distance > boundaryDistance + 10) {
             // Player is outside boundary - teleport back and penalize
             player.sendMessage(ChatColor.RED + "You have left the play area! -1 point penalty.");
@@ -0,0 +1,205 @@
+package com.example.managers;
+
+import com.example.util.TaskScheduler;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the arena's chunks before a game and keeps them loaded until it ends.
+ * Every chunk within the boundary, plus any extra locations such as the winner and loser
+ * spots, is loaded asynchronously and pinned with a plugin chunk ticket, so teleports
+ * during the game never have to load terrain on the spot.
+ */
+public class ChunkWarmer {
+    private static final int MAX_CHUNKS = 1024; // Nearest chunks win if the boundary is huge
+
+    private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    private volatile Job current;
+    private volatile long lastWarmupMillis = -1;
+    private volatile int lastWarmupChunks;
+
+    public ChunkWarmer(JavaPlugin plugin, TaskScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Starts loading and pinning every chunk within radius of the centre, plus the chunks of the extra locations.
+     * Chunks held from an earlier warm-up are released first. onWarm runs once every chunk has been
+     * loaded or has failed to, on whichever thread finished last.
+     */
+    public void warmUp(World world, double centerX, double centerZ, double radius, Runnable onWarm,
+                       Location... extras) {
+        release();
+
+        List<ChunkRef> chunks = new ArrayList<>();
+        int minChunkX = (int) Math.floor(centerX - radius) >> 4;
+        int maxChunkX = (int) Math.floor(centerX + radius) >> 4;
+        int minChunkZ = (int) Math.floor(centerZ - radius) >> 4;
+        int maxChunkZ = (int) Math.floor(centerZ + radius) >> 4;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                ChunkRef chunk = new ChunkRef(world, chunkX, chunkZ);
+                if (chunk.distanceSquared(centerX, centerZ) <= radius * radius) {
+                    chunks.add(chunk);
+                }
+            }
+        }
+        if (chunks.size() > MAX_CHUNKS) {
+            chunks.sort(Comparator.comparingDouble(chunk -> chunk.distanceSquared(centerX, centerZ)));
+            chunks = new ArrayList<>(chunks.subList(0, MAX_CHUNKS));
+            plugin.getLogger().warning("Boundary covers too many chunks; only the nearest " + MAX_CHUNKS + " are preloaded");
+        }
+
+        // Extra spots may be in other worlds, such as a lobby
+        Set<String> seen = new HashSet<>();
+        for (ChunkRef chunk : chunks) {
+            seen.add(chunk.id());
+        }
+        for (Location extra : extras) {
+            if (extra == null || extra.getWorld() == null) {
+                continue;
+            }
+            ChunkRef chunk = new ChunkRef(extra.getWorld(), extra.getBlockX() >> 4, extra.getBlockZ() >> 4);
+            if (seen.add(chunk.id())) {
+                chunks.add(chunk);
+            }
+        }
+
+        Job job = new Job(chunks.size(), onWarm);
+        current = job;
+        if (chunks.isEmpty()) {
+            onWarm.run();
+            return;
+        }
+        for (ChunkRef chunk : chunks) {
+            load(job, chunk);
+        }
+    }
+
+    private void load(Job job, ChunkRef chunk) {
+        chunk.world.getChunkAtAsync(chunk.x, chunk.z).whenComplete((loaded, error) -> {
+            if (error != null || loaded == null) {
+                chunkDone(job);
+                return;
+            }
+            scheduler.execute(chunk.center(), () -> {
+                if (!job.released) {
+                    chunk.world.addPluginChunkTicket(chunk.x, chunk.z, plugin);
+                    job.held.add(chunk);
+                    // Released while adding; whoever takes it out of the queue removes the ticket
+                    if (job.released && job.held.remove(chunk)) {
+                        chunk.world.removePluginChunkTicket(chunk.x, chunk.z, plugin);
+                    }
+                }
+                chunkDone(job);
+            });
+        });
+    }
+
+    private void chunkDone(Job job) {
+        if (job.remaining.decrementAndGet() == 0) {
+            lastWarmupMillis = (System.nanoTime() - job.startNanos) / 1_000_000;
+            lastWarmupChunks = job.chunkCount;
+            plugin.getLogger().info("Warmed up " + job.chunkCount + " arena chunks in " + lastWarmupMillis + "ms");
+            job.onWarm.run();
+        }
+    }
+
+    /**
+     * Lets go of every chunk held by the current warm-up, including ones still loading
+     */
+    public void release() {
+        Job job = current;
+        if (job == null) {
+            return;
+        }
+        current = null;
+        job.released = true;
+
+        ChunkRef chunk;
+        while ((chunk = job.held.poll()) != null) {
+            ChunkRef held = chunk;
+            scheduler.execute(held.center(), () -> held.world.removePluginChunkTicket(held.x, held.z, plugin));
+        }
+    }
+
+    /**
+     * Returns how long the last completed warm-up took, or -1 if none has finished
+     */
+    public long getLastWarmupMillis() {
+        return lastWarmupMillis;
+    }
+
+    public int getLastWarmupChunks() {
+        return lastWarmupChunks;
+    }
+
+    /**
+     * Returns the number of chunks currently pinned
+     */
+    public int getHeldChunkCount() {
+        Job job = current;
+        return job == null ? 0 : job.held.size();
+    }
+
+    /**
+     * One warm-up, from loading through to release
+     */
+    private static final class Job {
+        private final int chunkCount;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger remaining;
+        private final Queue<ChunkRef> held = new ConcurrentLinkedQueue<>();
+        private final Runnable onWarm;
+        private volatile boolean released;
+
+        private Job(int chunkCount, Runnable onWarm) {
+            this.chunkCount = chunkCount;
+            this.remaining = new AtomicInteger(chunkCount);
+            this.onWarm = onWarm;
+        }
+    }
+
+    private static final class ChunkRef {
+        private final World world;
+        private final int x;
+        private final int z;
+
+        private ChunkRef(World world, int x, int z) {
+            this.world = world;
+            this.x = x;
+            this.z = z;
+        }
+
+        private Location center() {
+            return new Location(world, (x << 4) + 8, 0, (z << 4) + 8);
+        }
+
+        private String id() {
+            return world.getName() + ":" + x + ":" + z;
+        }
+
+        /**
+         * Squared distance from a point to the nearest part of the chunk
+         */
+        private double distanceSquared(double pointX, double pointZ) {
+            double nearestX = Math.max(x << 4, Math.min(pointX, (x << 4) + 16));
+            double nearestZ = Math.max(z << 4, Math.min(pointZ, (z << 4) + 16));
+            double dx = nearestX - pointX;
+            double dz = nearestZ - pointZ;
+            return dx * dx + dz * dz;
+        }
+    }
+}
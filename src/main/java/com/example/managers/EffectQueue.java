@@ -0,0 +1,188 @@
+package com.example.managers;
+
+import com.example.util.TaskHandle;
+import com.example.util.TaskScheduler;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Deferred work queue for everything that doesn't have to happen inside the event that caused it.
+ * The queue is drained once per tick under a millisecond budget. Essential work (teleports,
+ * scoreboard updates, threat tracking) is never dropped; cosmetic work (sounds, particles,
+ * fireworks) is dropped when the queue overflows.
+ */
+public class EffectQueue {
+    public enum Priority {
+        ESSENTIAL,
+        COSMETIC
+    }
+
+    private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    private final Queue<Entry> essential = new ConcurrentLinkedQueue<>();
+    private final Queue<Entry> cosmetic = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger cosmeticDepth = new AtomicInteger();
+    private final AtomicInteger essentialDepth = new AtomicInteger();
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong deferredTicks = new AtomicLong();
+    private final long tickBudgetNanos;
+    private final int maxQueuedCosmetics;
+    private TaskHandle drainTask;
+
+    public EffectQueue(JavaPlugin plugin, TaskScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+
+        // Read limits from config.yml
+        double budgetMillis = plugin.getConfig().getDouble("effects.tick-budget-ms", 2.0);
+        this.tickBudgetNanos = (long) (budgetMillis * 1_000_000L);
+        this.maxQueuedCosmetics = Math.max(1, plugin.getConfig().getInt("effects.max-queued-cosmetics", 512));
+    }
+
+    /**
+     * Starts draining the queue every tick
+     */
+    public void start() {
+        if (drainTask == null) {
+            drainTask = scheduler.runGlobalTimer(task -> drain(), 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops draining; anything still queued is discarded
+     */
+    public void stop() {
+        if (drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+        clear();
+    }
+
+    /**
+     * Queues work that isn't tied to a particular entity
+     */
+    public void submit(Priority priority, Runnable action) {
+        submit(null, priority, action);
+    }
+
+    /**
+     * Queues work for an entity; it runs on the entity's own region when drained
+     */
+    public void submit(Entity anchor, Priority priority, Runnable action) {
+        Entry entry = new Entry(anchor, action);
+
+        if (priority == Priority.ESSENTIAL) {
+            essential.add(entry);
+            essentialDepth.incrementAndGet();
+            return;
+        }
+
+        // Drop cosmetics rather than let the backlog grow without bound
+        if (cosmeticDepth.incrementAndGet() > maxQueuedCosmetics) {
+            cosmeticDepth.decrementAndGet();
+            droppedCount.incrementAndGet();
+            return;
+        }
+        cosmetic.add(entry);
+    }
+
+    /**
+     * Runs queued work until the queue is empty or this tick's budget is spent.
+     * Essential work always goes first.
+     */
+    private void drain() {
+        long deadline = System.nanoTime() + tickBudgetNanos;
+
+        if (!drainQueue(essential, essentialDepth, deadline) || !drainQueue(cosmetic, cosmeticDepth, deadline)) {
+            // Budget ran out with work left over; it carries to the next tick
+            deferredTicks.incrementAndGet();
+        }
+    }
+
+    /**
+     * Drains one queue, returning false if the deadline was hit before it emptied
+     */
+    private boolean drainQueue(Queue<Entry> queue, AtomicInteger depth, long deadline) {
+        Entry entry;
+        while (System.nanoTime() < deadline) {
+            entry = queue.poll();
+            if (entry == null) {
+                return true;
+            }
+            depth.decrementAndGet();
+            run(entry);
+        }
+        return queue.isEmpty();
+    }
+
+    private void run(Entry entry) {
+        try {
+            if (entry.anchor == null) {
+                entry.action.run();
+            } else if (entry.anchor.isValid()) {
+                scheduler.execute(entry.anchor, entry.action);
+            }
+            executedCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "Deferred effect failed", e);
+        }
+    }
+
+    /**
+     * Discards everything still queued
+     */
+    public void clear() {
+        while (essential.poll() != null) {
+            essentialDepth.decrementAndGet();
+        }
+        while (cosmetic.poll() != null) {
+            cosmeticDepth.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of queued items waiting to run
+     */
+    public int getDepth() {
+        return essentialDepth.get() + cosmeticDepth.get();
+    }
+
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    /**
+     * Returns the number of cosmetic items dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Returns the number of ticks that ended with work carried over to the next tick
+     */
+    public long getDeferredTickCount() {
+        return deferredTicks.get();
+    }
+
+    /**
+     * A queued action and the entity it belongs to, if any
+     */
+    private static final class Entry {
+        private final Entity anchor;
+        private final Runnable action;
+
+        private Entry(Entity anchor, Runnable action) {
+            this.anchor = anchor;
+            this.action = action;
+        }
+    }
+}
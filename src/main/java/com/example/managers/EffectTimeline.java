@@ -0,0 +1,95 @@
+package com.example.managers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A precompiled effect: a fixed list of (tick offset, action) frames sorted by offset.
+ * Timelines are immutable and built once, then played any number of times by a
+ * {@link TimelineEngine} against a context such as the location or player they decorate.
+ *
+ * @param <T> the context each frame's action receives
+ */
+public final class EffectTimeline<T> {
+    private final int[] offsets;
+    private final Consumer<T>[] actions;
+
+    private EffectTimeline(int[] offsets, Consumer<T>[] actions) {
+        this.offsets = offsets;
+        this.actions = actions;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the number of frames
+     */
+    public int getFrameCount() {
+        return offsets.length;
+    }
+
+    /**
+     * Returns the tick offset of a frame, relative to when the timeline started
+     */
+    int getOffset(int frame) {
+        return offsets[frame];
+    }
+
+    /**
+     * Runs a frame's action against the given context
+     */
+    void runFrame(int frame, T context) {
+        actions[frame].accept(context);
+    }
+
+    /**
+     * Collects frames in any order and compiles them into a timeline
+     */
+    public static final class Builder<T> {
+        private final List<Frame<T>> frames = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an action that runs the given number of ticks after the timeline starts
+         */
+        public Builder<T> at(int tickOffset, Consumer<T> action) {
+            if (tickOffset < 0) {
+                throw new IllegalArgumentException("Tick offset cannot be negative: " + tickOffset);
+            }
+            frames.add(new Frame<>(tickOffset, action));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public EffectTimeline<T> build() {
+            // Stable sort keeps frames that share a tick in the order they were added
+            Frame<T>[] sorted = frames.toArray(new Frame[0]);
+            Arrays.sort(sorted, Comparator.comparingInt(frame -> frame.offset));
+
+            int[] offsets = new int[sorted.length];
+            Consumer<T>[] actions = new Consumer[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                offsets[i] = sorted[i].offset;
+                actions[i] = sorted[i].action;
+            }
+            return new EffectTimeline<>(offsets, actions);
+        }
+    }
+
+    private static final class Frame<T> {
+        private final int offset;
+        private final Consumer<T> action;
+
+        private Frame(int offset, Consumer<T> action) {
+            this.offset = offset;
+            this.action = action;
+        }
+    }
+}
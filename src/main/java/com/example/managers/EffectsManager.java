@@ -1,133 +1,166 @@
 package com.example.managers;
 
+import com.example.util.ParticleShape;
+import com.example.util.TaskScheduler;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.title.Title;
+import net.kyori.adventure.util.Ticks;
 import org.bukkit.*;
-import org.bukkit.entity.Firework;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.meta.FireworkMeta;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
-import java.util.Random;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Manages visual and sound effects for the game
+ * Manages visual and sound effects for the game.
+ * Multi-step effects are compiled once into timelines and played by a shared engine,
+ * so they can all be cancelled together when a game ends.
  */
 public class EffectsManager {
+    private static final ParticleShape RESPAWN_SPIRAL = ParticleShape.spiral(0.8, 2.0, 2, 24);
+    private static final Title.Times COUNTDOWN_TIMES = Title.Times.times(Ticks.duration(10), Ticks.duration(20), Ticks.duration(10));
+    private static final Sound COUNTDOWN_SOUND = Sound.sound(org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING, Sound.Source.MASTER, 1.0f, 1.0f);
+    private static final Sound GO_SOUND = Sound.sound(org.bukkit.Sound.ENTITY_FIREWORK_ROCKET_LARGE_BLAST, Sound.Source.MASTER, 1.0f, 1.0f);
+    
     private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    private final QualityController qualityController;
+    private final ArenaBroadcaster broadcaster;
+    private final FireworkRenderer fireworkRenderer;
+    private final TimelineEngine timelineEngine;
+    
+    // Precompiled timelines; the quality-dependent ones have one variant per level
+    private final EffectTimeline<Location> gameStartTimeline;
+    private final EffectTimeline<Runnable> countdownTimeline;
+    private final Map<QualityLevel, EffectTimeline<Location>> warningTimelines = new EnumMap<>(QualityLevel.class);
+    private final Map<QualityLevel, EffectTimeline<Location>> victoryTimelines = new EnumMap<>(QualityLevel.class);
+    private final Map<QualityLevel, EffectTimeline<Player>> fallingTrailTimelines = new EnumMap<>(QualityLevel.class);
     
-    public EffectsManager(JavaPlugin plugin) {
+    public EffectsManager(JavaPlugin plugin, TaskScheduler scheduler, QualityController qualityController,
+                          ArenaBroadcaster broadcaster) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.qualityController = qualityController;
+        this.broadcaster = broadcaster;
+        this.fireworkRenderer = new FireworkRenderer(plugin);
+        this.timelineEngine = new TimelineEngine(plugin, scheduler);
+        
+        this.gameStartTimeline = compileGameStart();
+        this.countdownTimeline = compileCountdown();
+        for (QualityLevel level : QualityLevel.values()) {
+            warningTimelines.put(level, compileWarningFireworks(level));
+            victoryTimelines.put(level, compileVictoryFireworks(level));
+            fallingTrailTimelines.put(level, compileFallingTrail(level));
+        }
+    }
+    
+    /**
+     * Cancels every effect timeline that is still playing
+     */
+    public void cancelEffects() {
+        timelineEngine.cancelAll();
+    }
+    
+    /**
+     * Returns the number of effect timelines currently playing
+     */
+    public int getActiveTimelineCount() {
+        return timelineEngine.getActiveCount();
     }
     
     /**
      * Creates firework effect at the middle of the arena
      */
     public void createGameStartEffect(Location location) {
+        timelineEngine.play(gameStartTimeline, location);
+    }
+    
+    private EffectTimeline<Location> compileGameStart() {
+        EffectTimeline.Builder<Location> builder = EffectTimeline.builder();
+        
+        // Spawn firework particles in the sky
+        builder.at(0, location -> location.getWorld().spawnParticle(Particle.FIREWORKS_SPARK, 
+                                                                    location.clone().add(0, 10, 0), 
+                                                                    100, 5, 5, 5, 0.1));
+        
         // Create multiple fireworks
         for (int i = 0; i < 5; i++) {
-            final int delay = i * 4;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            builder.at(i * 4, location -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
                 spawnRandomFirework(location.clone().add(
-                    -5 + new Random().nextInt(11),  // Random x offset (-5 to +5)
-                    5 + new Random().nextInt(6),    // Random height (5 to 10)
-                    -5 + new Random().nextInt(11)   // Random z offset (-5 to +5)
+                    -5 + random.nextInt(11),  // Random x offset (-5 to +5)
+                    5 + random.nextInt(6),    // Random height (5 to 10)
+                    -5 + random.nextInt(11)   // Random z offset (-5 to +5)
                 ));
-            }, delay);
+            });
         }
-        
-        // Spawn firework particles in the sky
-        location.getWorld().spawnParticle(Particle.FIREWORKS_SPARK, 
-                                         location.clone().add(0, 10, 0), 
-                                         100, 5, 5, 5, 0.1);
+        return builder.build();
     }
     
     /**
-     * Spawns a random colored firework
+     * Shows a random colored firework
      */
     public void spawnRandomFirework(Location location) {
-        Firework firework = location.getWorld().spawn(location, Firework.class);
-        FireworkMeta meta = firework.getFireworkMeta();
-        
-        // Random Type
-        FireworkEffect.Type[] types = FireworkEffect.Type.values();
-        FireworkEffect.Type type = types[new Random().nextInt(types.length)];
-        
-        // Random Colors
-        Color[] colors = {Color.RED, Color.BLUE, Color.WHITE, Color.AQUA, Color.FUCHSIA, 
-                         Color.LIME, Color.YELLOW, Color.ORANGE, Color.PURPLE};
-        Color primaryColor = colors[new Random().nextInt(colors.length)];
-        Color fadeColor = colors[new Random().nextInt(colors.length)];
-        
-        // Create effect
-        FireworkEffect effect = FireworkEffect.builder()
-            .withColor(primaryColor)
-            .withFade(fadeColor)
-            .with(type)
-            .trail(new Random().nextBoolean())
-            .flicker(new Random().nextBoolean())
-            .build();
-        
-        meta.addEffect(effect);
-        meta.setPower(1); // Lower power for quicker explosion
-        firework.setFireworkMeta(meta);
+        fireworkRenderer.showRandom(location);
     }
     
     /**
-     * Spawns a bright red warning firework
+     * Shows a bright red warning firework
      */
     public void spawnWarningFirework(Location location) {
-        Firework firework = location.getWorld().spawn(location, Firework.class);
-        FireworkMeta meta = firework.getFireworkMeta();
-        
-        // Create bright red warning effect
-        FireworkEffect effect = FireworkEffect.builder()
-            .withColor(Color.RED)
-            .withFade(Color.ORANGE)
-            .with(FireworkEffect.Type.BURST)
-            .trail(true)
-            .flicker(true)
-            .build();
-        
-        meta.addEffect(effect);
-        meta.setPower(0); // Immediate explosion
-        firework.setFireworkMeta(meta);
+        fireworkRenderer.showWarning(location);
     }
     
     /**
      * Creates a cluster of warning fireworks
      */
     public void createWarningFireworks(Location location) {
-        // Create a cluster of fireworks
-        for (int i = 0; i < 3; i++) {
-            for (int angle = 0; angle < 360; angle += 120) {
-                double rad = Math.toRadians(angle);
-                double x = Math.cos(rad) * (i+1) * 3;
-                double z = Math.sin(rad) * (i+1) * 3;
-                
-                final Location fireworkLoc = location.clone().add(x, 15 + i*5, z);
+        // Fewer fireworks when the server is under load
+        timelineEngine.play(warningTimelines.get(qualityController.getLevel()), location);
+    }
+    
+    private EffectTimeline<Location> compileWarningFireworks(QualityLevel quality) {
+        EffectTimeline.Builder<Location> builder = EffectTimeline.builder();
+        int remaining = quality.scaleFireworks(9);
+        
+        // Create a cluster of fireworks, innermost ring first
+        for (int i = 0; i < 3 && remaining > 0; i++) {
+            double[] ring = ParticleShape.ring((i+1) * 3, 3).getOffsets(1);
+            for (int point = 0; point < ring.length / 3 && remaining > 0; point++, remaining--) {
+                final double x = ring[point * 3];
+                final double y = 15 + i*5;
+                final double z = ring[point * 3 + 2];
                 
-                Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                    spawnWarningFirework(fireworkLoc);
-                }, i * 3 + angle / 60);
+                builder.at(i * 3 + point * 2, location -> spawnWarningFirework(location.clone().add(x, y, z)));
             }
         }
+        return builder.build();
     }
     
     /**
      * Runs the countdown effect for game start
      */
     public void startCountdownEffect(Runnable onComplete) {
-        new BukkitRunnable() {
-            int countdown = 5;
-            
-            @Override
-            public void run() {
-                if (countdown > 0) {
-                    // Display countdown
-                    for (Player player : plugin.getServer().getOnlinePlayers()) {
-                        player.sendTitle(ChatColor.RED + Integer.toString(countdown), "", 10, 20, 10);
-                        player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.0f);
-                        
+        timelineEngine.playGlobal(countdownTimeline, onComplete);
+    }
+    
+    private EffectTimeline<Runnable> compileCountdown() {
+        EffectTimeline.Builder<Runnable> builder = EffectTimeline.builder();
+        
+        // One number per second from 5 down to 1
+        for (int count = 5; count > 0; count--) {
+            final Title title = Title.title(Component.text(count, NamedTextColor.RED), Component.empty(), COUNTDOWN_TIMES);
+            builder.at((6 - count) * 20, onComplete -> {
+                // Display countdown to the whole arena at once
+                broadcaster.showTitle(title);
+                broadcaster.playSound(COUNTDOWN_SOUND);
+                
+                for (Player player : broadcaster.getParticipants()) {
+                    scheduler.execute(player, () -> {
                         // Add cool particle effect for countdown
                         player.getWorld().spawnParticle(
                             Particle.REDSTONE, 
@@ -135,27 +168,31 @@ public class EffectsManager {
                             20, 0.5, 0.5, 0.5, 0,
                             new Particle.DustOptions(Color.fromRGB(255, 0, 0), 1)
                         );
-                    }
-                    countdown--;
-                } else {
-                    // Start the game
-                    for (Player player : plugin.getServer().getOnlinePlayers()) {
-                        player.sendTitle(ChatColor.GREEN + "GO!", "", 10, 20, 10);
-                        player.playSound(player.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_LARGE_BLAST, 1.0f, 1.0f);
-                        
-                        // Add particle explosion effect
-                        player.getWorld().spawnParticle(
-                            Particle.EXPLOSION_LARGE, 
-                            player.getLocation().add(0, 1, 0), 
-                            3, 0.5, 0.5, 0.5, 0.1
-                        );
-                    }
-                    
-                    cancel();
-                    onComplete.run();
+                    });
                 }
+            });
+        }
+        
+        final Title go = Title.title(Component.text("GO!", NamedTextColor.GREEN), Component.empty(), COUNTDOWN_TIMES);
+        builder.at(120, onComplete -> {
+            // Start the game
+            broadcaster.showTitle(go);
+            broadcaster.playSound(GO_SOUND);
+            
+            for (Player player : broadcaster.getParticipants()) {
+                scheduler.execute(player, () -> {
+                    // Add particle explosion effect
+                    player.getWorld().spawnParticle(
+                        Particle.EXPLOSION_LARGE, 
+                        player.getLocation().add(0, 1, 0), 
+                        3, 0.5, 0.5, 0.5, 0.1
+                    );
+                });
             }
-        }.runTaskTimer(plugin, 20L, 20L);
+            
+            onComplete.run();
+        });
+        return builder.build();
     }
     
     /**
@@ -174,39 +211,32 @@ public class EffectsManager {
      * Creates trail effects as a player falls from being hit
      */
     public void createFallingTrail(Player player) {
-        new BukkitRunnable() {
-            int ticks = 0;
-            
-            @Override
-            public void run() {
-                if (!player.isOnline() || ticks > 20) {
-                    cancel();
-                    return;
-                }
-                
-                // Only create particles every 3 ticks
-                if (ticks % 3 == 0) {
-                    player.getWorld().spawnParticle(
-                        Particle.CLOUD, 
-                        player.getLocation(), 
-                        3, 0.1, 0.1, 0.1, 0
-                    );
-                }
-                
-                ticks++;
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+        timelineEngine.play(fallingTrailTimelines.get(qualityController.getLevel()), player);
+    }
+    
+    private EffectTimeline<Player> compileFallingTrail(QualityLevel quality) {
+        EffectTimeline.Builder<Player> builder = EffectTimeline.builder();
+        
+        // Only create particles every 3 ticks, less often under load
+        int interval = 3 * quality.getParticleStride();
+        for (int tick = 0; tick <= 20; tick += interval) {
+            builder.at(tick, player -> player.getWorld().spawnParticle(
+                Particle.CLOUD, 
+                player.getLocation(), 
+                3, 0.1, 0.1, 0.1, 0
+            ));
+        }
+        return builder.build();
     }
     
     /**
      * Creates respawn effects for a player
      */
     public void createRespawnEffect(Player player) {
-        player.getWorld().spawnParticle(
-            Particle.PORTAL, 
-            player.getLocation().add(0, 1, 0), 
-            20, 0.5, 0.5, 0.5, 0.1
-        );
+        // Portal spiral winding up around the player, thinner under load
+        Location loc = player.getLocation();
+        RESPAWN_SPIRAL.stamp(player.getWorld(), Particle.PORTAL, loc.getX(), loc.getY(), loc.getZ(),
+                             qualityController.getLevel().getParticleStride(), 1, 0, 0.1, null);
     }
     
     /**
@@ -233,31 +263,36 @@ public class EffectsManager {
         // Victory lightning effect
         spawnFakeLightning(winner.getLocation());
         
-        // Multiple fireworks in different patterns
-        Location loc = winner.getLocation();
+        // Fewer fireworks when the server is under load
+        timelineEngine.play(victoryTimelines.get(qualityController.getLevel()), winner.getLocation());
+    }
+    
+    private EffectTimeline<Location> compileVictoryFireworks(QualityLevel quality) {
+        EffectTimeline.Builder<Location> builder = EffectTimeline.builder();
         
         // Circle of fireworks
-        final int totalFireworks = 16;
-        for (int i = 0; i < totalFireworks; i++) {
-            final int fi = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                double angle = (fi * 2 * Math.PI) / totalFireworks;
-                double radius = 3;
-                double x = loc.getX() + radius * Math.cos(angle);
-                double z = loc.getZ() + radius * Math.sin(angle);
+        int totalFireworks = quality.scaleFireworks(16);
+        if (totalFireworks > 0) {
+            double[] ring = ParticleShape.ring(3, totalFireworks).getOffsets(1);
+            for (int i = 0; i < totalFireworks; i++) {
+                final double x = ring[i * 3];
+                final double z = ring[i * 3 + 2];
                 
-                Location fireworkLoc = new Location(loc.getWorld(), x, loc.getY(), z);
-                spawnRandomFirework(fireworkLoc);
-            }, i * 2);
+                builder.at(i * 2, loc -> spawnRandomFirework(
+                    new Location(loc.getWorld(), loc.getX() + x, loc.getY(), loc.getZ() + z)));
+            }
         }
         
         // Vertical column of fireworks
-        for (int i = 0; i < 5; i++) {
-            final int height = i * 3 + 2;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                spawnRandomFirework(loc.clone().add(0, height, 0));
-            }, 20 + i * 5);
+        int columnFireworks = quality.scaleFireworks(5);
+        if (columnFireworks > 0) {
+            double[] column = ParticleShape.column(2, 3, columnFireworks).getOffsets(1);
+            for (int i = 0; i < columnFireworks; i++) {
+                final double height = column[i * 3 + 1];
+                builder.at(20 + i * 5, loc -> spawnRandomFirework(loc.clone().add(0, height, 0)));
+            }
         }
+        return builder.build();
     }
     
     /**
@@ -0,0 +1,155 @@
+package com.example.managers;
+
+import com.example.util.ParticleShape;
+import org.bukkit.Bukkit;
+import org.bukkit.Color;
+import org.bukkit.FireworkEffect;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Firework;
+import org.bukkit.inventory.meta.FireworkMeta;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws firework explosions.
+ * In cosmetic mode a burst is composed purely from particles and sounds sent to nearby
+ * clients, so no Firework entity is ever spawned, ticked or tracked by the server.
+ * Otherwise real Firework entities are spawned from prebuilt, cached metas.
+ */
+public class FireworkRenderer {
+    private static final int PALETTE_SIZE = 32;
+    private static final Color[] COLORS = {Color.RED, Color.BLUE, Color.WHITE, Color.AQUA, Color.FUCHSIA,
+                                           Color.LIME, Color.YELLOW, Color.ORANGE, Color.PURPLE};
+
+    private static final ParticleShape BALL = ParticleShape.sphere(2.0, 48);
+    private static final ParticleShape LARGE_BALL = ParticleShape.sphere(3.5, 48);
+    private static final ParticleShape STAR = ParticleShape.star(2.5, 5, 50);
+
+    private final boolean cosmetic;
+    private final FireworkEffect[] palette = new FireworkEffect[PALETTE_SIZE];
+    private final FireworkMeta[] paletteMetas = new FireworkMeta[PALETTE_SIZE];
+    private final FireworkEffect warningEffect;
+    private final FireworkMeta warningMeta;
+
+    public FireworkRenderer(JavaPlugin plugin) {
+        this.cosmetic = plugin.getConfig().getBoolean("effects.cosmetic-fireworks", true);
+
+        // Build the random palette once instead of per firework
+        Random random = new Random();
+        FireworkEffect.Type[] types = FireworkEffect.Type.values();
+        for (int i = 0; i < PALETTE_SIZE; i++) {
+            palette[i] = FireworkEffect.builder()
+                .withColor(COLORS[random.nextInt(COLORS.length)])
+                .withFade(COLORS[random.nextInt(COLORS.length)])
+                .with(types[random.nextInt(types.length)])
+                .trail(random.nextBoolean())
+                .flicker(random.nextBoolean())
+                .build();
+            paletteMetas[i] = buildMeta(palette[i], 1); // Lower power for quicker explosion
+        }
+
+        // Bright red warning effect
+        warningEffect = FireworkEffect.builder()
+            .withColor(Color.RED)
+            .withFade(Color.ORANGE)
+            .with(FireworkEffect.Type.BURST)
+            .trail(true)
+            .flicker(true)
+            .build();
+        warningMeta = buildMeta(warningEffect, 0); // Immediate explosion
+    }
+
+    /**
+     * Returns true if fireworks are drawn with particles instead of entities
+     */
+    public boolean isCosmetic() {
+        return cosmetic;
+    }
+
+    /**
+     * Shows a random firework from the palette
+     */
+    public void showRandom(Location location) {
+        int index = ThreadLocalRandom.current().nextInt(PALETTE_SIZE);
+        if (cosmetic) {
+            renderBurst(location, palette[index]);
+        } else {
+            spawnEntity(location, paletteMetas[index]);
+        }
+    }
+
+    /**
+     * Shows the red warning firework
+     */
+    public void showWarning(Location location) {
+        if (cosmetic) {
+            renderBurst(location, warningEffect);
+        } else {
+            spawnEntity(location, warningMeta);
+        }
+    }
+
+    private void spawnEntity(Location location, FireworkMeta meta) {
+        Firework firework = location.getWorld().spawn(location, Firework.class);
+        firework.setFireworkMeta(meta);
+    }
+
+    /**
+     * Composes an explosion from particles matching the firework's shape, colours and flags
+     */
+    private void renderBurst(Location location, FireworkEffect effect) {
+        World world = location.getWorld();
+        double x = location.getX();
+        double y = location.getY();
+        double z = location.getZ();
+
+        Color color = effect.getColors().isEmpty() ? Color.WHITE : effect.getColors().get(0);
+        Color fade = effect.getFadeColors().isEmpty() ? color : effect.getFadeColors().get(0);
+        Particle.DustTransition dust = new Particle.DustTransition(color, fade, 1.5f);
+
+        switch (effect.getType()) {
+            case BALL_LARGE:
+                LARGE_BALL.stamp(world, Particle.DUST_COLOR_TRANSITION, x, y, z, 1, 0, 0, dust);
+                break;
+            case STAR:
+                STAR.stamp(world, Particle.DUST_COLOR_TRANSITION, x, y, z, 1, 0, 0, dust);
+                break;
+            case BURST:
+                // Random spray of sparks flying outwards
+                world.spawnParticle(Particle.FIREWORKS_SPARK, x, y, z, 40, 0, 0, 0, 0.35);
+                world.spawnParticle(Particle.DUST_COLOR_TRANSITION, x, y, z, 30, 1.5, 1.5, 1.5, 0, dust);
+                break;
+            case BALL:
+            case CREEPER:
+            default:
+                BALL.stamp(world, Particle.DUST_COLOR_TRANSITION, x, y, z, 1, 0, 0, dust);
+                break;
+        }
+
+        if (effect.hasTrail()) {
+            world.spawnParticle(Particle.FIREWORKS_SPARK, x, y, z, 12, 0.5, 0.5, 0.5, 0.05);
+        }
+
+        boolean large = effect.getType() == FireworkEffect.Type.BALL_LARGE;
+        world.playSound(location, large ? Sound.ENTITY_FIREWORK_ROCKET_LARGE_BLAST : Sound.ENTITY_FIREWORK_ROCKET_BLAST,
+                        3.0f, 1.0f);
+
+        if (effect.hasFlicker()) {
+            world.spawnParticle(Particle.FLASH, x, y, z, 1, 0, 0, 0, 0);
+            world.playSound(location, Sound.ENTITY_FIREWORK_ROCKET_TWINKLE, 3.0f, 1.0f);
+        }
+    }
+
+    private static FireworkMeta buildMeta(FireworkEffect effect, int power) {
+        FireworkMeta meta = (FireworkMeta) Bukkit.getItemFactory().getItemMeta(Material.FIREWORK_ROCKET);
+        meta.addEffect(effect);
+        meta.setPower(power);
+        return meta;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.managers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The state of a running game at one moment, enough to pick it back up after a crash.
+ * Stored as a small binary file: a header with the game settings and phase, then one
+ * record per player holding their UUID, score and whether they were a threat.
+ */
+public final class GameCheckpoint {
+    private static final int MAGIC = 0x53424350; // "SBCP"
+    private static final int VERSION = 1;
+
+    /**
+     * How far the game had got
+     */
+    public enum Phase {
+        TELEPORTING,
+        COUNTDOWN,
+        PLAYING
+    }
+
+    private final long savedAt;
+    private final int hitsToWin;
+    private final double boundaryDistance;
+    private final Phase phase;
+    private final Map<UUID, Integer> scores;
+    private final Set<UUID> threats;
+
+    public GameCheckpoint(long savedAt, int hitsToWin, double boundaryDistance, Phase phase,
+                          Map<UUID, Integer> scores, Set<UUID> threats) {
+        this.savedAt = savedAt;
+        this.hitsToWin = hitsToWin;
+        this.boundaryDistance = boundaryDistance;
+        this.phase = phase;
+        this.scores = Collections.unmodifiableMap(scores);
+        this.threats = Collections.unmodifiableSet(threats);
+    }
+
+    /**
+     * Returns when the checkpoint was taken, in epoch milliseconds
+     */
+    public long getSavedAt() {
+        return savedAt;
+    }
+
+    public int getHitsToWin() {
+        return hitsToWin;
+    }
+
+    public double getBoundaryDistance() {
+        return boundaryDistance;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public Map<UUID, Integer> getScores() {
+        return scores;
+    }
+
+    public Set<UUID> getThreats() {
+        return threats;
+    }
+
+    /**
+     * Returns the highest saved score, or 0 if nobody has scored
+     */
+    public int getHighestScore() {
+        int highest = 0;
+        for (int score : scores.values()) {
+            highest = Math.max(highest, score);
+        }
+        return highest;
+    }
+
+    byte[] encode() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(32 + scores.size() * 21);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(phase.ordinal());
+            out.writeLong(savedAt);
+            out.writeInt(hitsToWin);
+            out.writeDouble(boundaryDistance);
+            out.writeInt(scores.size());
+            for (Map.Entry<UUID, Integer> entry : scores.entrySet()) {
+                out.writeLong(entry.getKey().getMostSignificantBits());
+                out.writeLong(entry.getKey().getLeastSignificantBits());
+                out.writeInt(entry.getValue());
+                out.writeBoolean(threats.contains(entry.getKey()));
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    static GameCheckpoint decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a game checkpoint");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported checkpoint version " + version);
+            }
+
+            int phaseIndex = in.readUnsignedByte();
+            if (phaseIndex >= Phase.values().length) {
+                throw new IOException("Unknown game phase " + phaseIndex);
+            }
+            Phase phase = Phase.values()[phaseIndex];
+            long savedAt = in.readLong();
+            int hitsToWin = in.readInt();
+            double boundaryDistance = in.readDouble();
+            if (hitsToWin <= 0 || !Double.isFinite(boundaryDistance)) {
+                throw new IOException("Checkpoint has invalid game settings");
+            }
+
+            int playerCount = in.readInt();
+            if (playerCount < 0 || playerCount * 21L > in.available()) {
+                throw new IOException("Checkpoint is truncated");
+            }
+            Map<UUID, Integer> scores = new HashMap<>();
+            Set<UUID> threats = new HashSet<>();
+            for (int i = 0; i < playerCount; i++) {
+                UUID player = new UUID(in.readLong(), in.readLong());
+                scores.put(player, in.readInt());
+                if (in.readBoolean()) {
+                    threats.add(player);
+                }
+            }
+            return new GameCheckpoint(savedAt, hitsToWin, boundaryDistance, phase, scores, threats);
+        }
+    }
+}
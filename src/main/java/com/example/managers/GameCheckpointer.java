@@ -0,0 +1,141 @@
+package com.example.managers;
+
+import com.example.util.AsyncFileWriter;
+import com.example.util.TaskHandle;
+import com.example.util.TaskScheduler;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Saves the running game every few seconds so a crash doesn't lose the scores.
+ * Each interval compares a cheap version number of the game state with the one last saved
+ * and only takes and writes a checkpoint when it moved, through the file writer's atomic
+ * rename. The file is deleted when a game ends normally, so one found at startup belongs
+ * to a game that was cut short and is held until an admin resumes or discards it.
+ */
+public class GameCheckpointer {
+    private static final String FILE_NAME = "checkpoint.dat";
+
+    private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    private final AsyncFileWriter fileWriter;
+    private final File file;
+    private final long intervalTicks;
+    private TaskHandle task;
+    private long lastSavedVersion;
+    private volatile GameCheckpoint unfinished;
+    private volatile long writtenCount;
+    private volatile long skippedCount;
+
+    public GameCheckpointer(JavaPlugin plugin, TaskScheduler scheduler, AsyncFileWriter fileWriter) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.fileWriter = fileWriter;
+        this.file = new File(plugin.getDataFolder(), FILE_NAME);
+        this.intervalTicks = Math.max(1, plugin.getConfig().getInt("checkpoint.interval-seconds", 5)) * 20L;
+
+        if (file.exists()) {
+            scheduler.runAsync(this::loadUnfinished);
+        }
+    }
+
+    /**
+     * Starts checkpointing a game; only called on the global region.
+     * A checkpoint left over from an earlier game is dropped, since the new one replaces it.
+     *
+     * @param version changes whenever anything worth saving changes
+     * @param capture takes a checkpoint of the game as it is now
+     */
+    public void start(LongSupplier version, Supplier<GameCheckpoint> capture) {
+        stopTask();
+        unfinished = null;
+        // Always save the first interval, whatever the version is
+        lastSavedVersion = version.getAsLong() - 1;
+        task = scheduler.runGlobalTimer(handle -> saveIfChanged(version, capture), intervalTicks, intervalTicks);
+    }
+
+    /**
+     * Stops checkpointing and removes the file, for a game that ended normally
+     */
+    public void stop() {
+        stopTask();
+        fileWriter.delete(file, null);
+    }
+
+    private void stopTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void saveIfChanged(LongSupplier version, Supplier<GameCheckpoint> capture) {
+        long current = version.getAsLong();
+        if (current == lastSavedVersion) {
+            skippedCount++;
+            return;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = capture.get().encode();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not build game checkpoint", e);
+            return;
+        }
+        lastSavedVersion = current;
+        writtenCount++;
+        fileWriter.write(file, bytes, null);
+    }
+
+    private void loadUnfinished() {
+        try {
+            GameCheckpoint checkpoint = GameCheckpoint.decode(Files.readAllBytes(file.toPath()));
+            unfinished = checkpoint;
+            plugin.getLogger().warning("Found an unfinished game from " +
+                                       new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(checkpoint.getSavedAt())) +
+                                       " with " + checkpoint.getScores().size() + " players; use /resumeGame to pick it back up");
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Ignoring unreadable game checkpoint", e);
+        }
+    }
+
+    /**
+     * Returns the checkpoint of a game cut short before the last shutdown, or null if there is none
+     */
+    public GameCheckpoint getUnfinished() {
+        return unfinished;
+    }
+
+    /**
+     * Forgets the unfinished game and deletes its checkpoint
+     */
+    public void discardUnfinished() {
+        if (unfinished != null) {
+            unfinished = null;
+            fileWriter.delete(file, null);
+        }
+    }
+
+    /**
+     * Returns how many checkpoints have been written since startup
+     */
+    public long getWrittenCount() {
+        return writtenCount;
+    }
+
+    /**
+     * Returns how many intervals were skipped because nothing had changed
+     */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+}
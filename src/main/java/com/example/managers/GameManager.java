@@ -1,21 +1,52 @@
 package com.example.managers;
 
+import com.example.util.ArenaGeometry;
 import com.example.util.LocationUtil;
-import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
+import com.example.util.MessageTemplate;
+import com.example.util.TaskScheduler;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.title.Title;
+import net.kyori.adventure.util.Ticks;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.ProjectileLaunchEvent;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Manages the overall game state and coordinates between other managers
  */
 public class GameManager {
+    // Announcements, built once and rendered once per broadcast
+    private static final Title.Times ANNOUNCEMENT_TIMES = Title.Times.times(Ticks.duration(10), Ticks.duration(70), Ticks.duration(20));
+    private static final Title GAME_STARTING_TITLE = Title.title(
+        Component.text("Game Starting", NamedTextColor.GOLD),
+        Component.text("Prepare for Snowball Fight!", NamedTextColor.WHITE),
+        ANNOUNCEMENT_TIMES);
+    private static final MessageTemplate WINNER_TITLE = MessageTemplate.builder()
+        .argument(NamedTextColor.GOLD).text(" Wins!", NamedTextColor.GOLD).build();
+    private static final MessageTemplate WINNER_SUBTITLE = MessageTemplate.builder()
+        .text("With ", NamedTextColor.WHITE).argument(NamedTextColor.WHITE).text(" points!", NamedTextColor.WHITE).build();
+    private static final MessageTemplate WINNING_HIT = MessageTemplate.builder()
+        .text("★ ", NamedTextColor.GOLD).argument(NamedTextColor.GREEN).text(" has won! ★", NamedTextColor.GOLD).build();
+    private static final MessageTemplate BOUNDARY_DISTANCE = MessageTemplate.builder()
+        .text("Boundary distance: ", NamedTextColor.YELLOW).argument(NamedTextColor.WHITE)
+        .text(" blocks from the middle.", NamedTextColor.YELLOW).build();
+    private static final Component NO_WINNER = Component.text("Game ended without a winner!", NamedTextColor.RED);
+    private static final Sound VICTORY_SOUND = Sound.sound(org.bukkit.Sound.UI_TOAST_CHALLENGE_COMPLETE, Sound.Source.MASTER, 1.0f, 1.0f);
+    private static final Sound THREAT_DOWN_SOUND = Sound.sound(org.bukkit.Sound.ENTITY_ENDER_DRAGON_GROWL, Sound.Source.MASTER, 0.3f, 1.0f);
+    private static final long SPAWN_CHECK_TIMEOUT_TICKS = 100L; // Longest the start waits for spawn checks
+    private static final long WARMUP_TIMEOUT_TICKS = 200L; // Longest the countdown waits for the arena to load
+    private static final int SPAWN_PICK_ATTEMPTS = 16; // Random spawns tried per respawn before settling
+    
     private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
     private final LocationUtil locationUtil;
     private final PlayerStatusManager playerStatusManager;
     private final ScoreManager scoreManager;
@@ -23,35 +54,101 @@ public class GameManager {
     private final SnowballManager snowballManager;
     private final EffectsManager effectsManager;
     private final ThreatTracker threatTracker;
+    private final SessionRouter sessionRouter;
+    private final EffectQueue effectQueue;
+    private final MonsterSuppressor monsterSuppressor;
+    private final SpawnValidator spawnValidator;
+    private final ChunkWarmer chunkWarmer;
+    private final InventoryKeeper inventoryKeeper;
+    private final GameCheckpointer checkpointer;
+    private final RespawnPipeline respawnPipeline;
+    private final MassTeleporter massTeleporter;
+    // Everyone taking part in this arena's game
+    private final ArenaBroadcaster broadcaster = new ArenaBroadcaster();
     
-    private boolean gameActive = false;
-    private boolean countdownActive = false;
+    private volatile boolean gameActive = false;
+    private volatile boolean countdownActive = false;
+    // True until players have been moved to their spawns and the arena has loaded, before the countdown
+    private volatile boolean teleportingPlayers = false;
+    // Bumped when a game starts or ends, so callbacks from an earlier game can tell they are stale
+    private volatile int gameGeneration;
     
-    public GameManager(JavaPlugin plugin, LocationUtil locationUtil, PlayerStatusManager playerStatusManager) {
+    public GameManager(JavaPlugin plugin, TaskScheduler scheduler, LocationUtil locationUtil,
+                       PlayerStatusManager playerStatusManager, SessionRouter sessionRouter,
+                       EffectQueue effectQueue, QualityController qualityController,
+                       MonsterSuppressor monsterSuppressor, SpawnValidator spawnValidator,
+                       ChunkWarmer chunkWarmer, InventoryKeeper inventoryKeeper,
+                       GameCheckpointer checkpointer) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
         this.locationUtil = locationUtil;
         this.playerStatusManager = playerStatusManager;
+        this.sessionRouter = sessionRouter;
+        this.effectQueue = effectQueue;
+        this.monsterSuppressor = monsterSuppressor;
+        this.spawnValidator = spawnValidator;
+        this.chunkWarmer = chunkWarmer;
+        this.inventoryKeeper = inventoryKeeper;
+        this.checkpointer = checkpointer;
         
         // Initialize managers
-        this.scoreManager = new ScoreManager(plugin);
-        this.boundaryManager = new BoundaryManager(plugin, locationUtil, scoreManager);
-        this.effectsManager = new EffectsManager(plugin);
-        this.snowballManager = new SnowballManager(plugin, scoreManager);
-        this.threatTracker = new ThreatTracker(plugin, scoreManager, effectsManager);
+        this.scoreManager = new ScoreManager(plugin, scheduler, effectQueue, qualityController, broadcaster);
+        this.boundaryManager = new BoundaryManager(plugin, scheduler, locationUtil, scoreManager, qualityController);
+        this.effectsManager = new EffectsManager(plugin, scheduler, qualityController, broadcaster);
+        this.snowballManager = new SnowballManager(plugin, scheduler, scoreManager, qualityController);
+        this.threatTracker = new ThreatTracker(plugin, scheduler, scoreManager, effectsManager, qualityController,
+                                               broadcaster);
+        this.respawnPipeline = new RespawnPipeline(scheduler, playerStatusManager, snowballManager, effectsManager,
+                                                   boundaryManager, effectQueue, this::isGameActive,
+                                                   this::pickRandomSpawn);
+        this.massTeleporter = new MassTeleporter(plugin, scheduler);
     }
     
     public boolean isGameActive() {
         return gameActive;
     }
     
+    /**
+     * Returns the pipeline that respawns hit players
+     */
+    public RespawnPipeline getRespawnPipeline() {
+        return respawnPipeline;
+    }
+    
+    /**
+     * Returns the pool the game's scoreboards come from
+     */
+    public ScoreboardPool getScoreboardPool() {
+        return scoreManager.getScoreboardPool();
+    }
+    
+    /**
+     * Returns the scheduler that spreads game start and end teleports over several ticks
+     */
+    public MassTeleporter getMassTeleporter() {
+        return massTeleporter;
+    }
+    
     public boolean isCountdownActive() {
         return countdownActive;
     }
     
     /**
-     * Starts a new game
+     * Starts a new game; only called on the global region
      */
     public void startGame(int hitsToWin, double boundaryDistance) {
+        beginGame(hitsToWin, boundaryDistance, null);
+    }
+    
+    /**
+     * Starts a game from a checkpoint, with everyone's saved score and threat status.
+     * Only called on the global region.
+     */
+    public void resumeGame(GameCheckpoint checkpoint) {
+        beginGame(checkpoint.getHitsToWin(), checkpoint.getBoundaryDistance(), checkpoint);
+    }
+    
+    private void beginGame(int hitsToWin, double boundaryDistance, GameCheckpoint resumed) {
         // Check if all required locations are set
         if (!locationUtil.areAllLocationsSet()) {
             plugin.getLogger().warning("Cannot start game: Not all required locations are set!");
@@ -65,11 +162,13 @@ public class GameManager {
         }
         
         // Check if there are enough spawn points
-        if (locationUtil.getSpawnPoints().size() < plugin.getServer().getOnlinePlayers().size()) {
+        if (locationUtil.getGeometry().getSpawnCount() < plugin.getServer().getOnlinePlayers().size()) {
             plugin.getLogger().warning("Cannot start game: Not enough spawn points for all players!");
             return;
         }
         
+        gameGeneration++;
+        
         // Initialize managers
         scoreManager.initializeScoreboard(hitsToWin, boundaryDistance);
         boundaryManager.initializeBoundary(boundaryDistance);
@@ -79,76 +178,174 @@ public class GameManager {
         for (Player player : plugin.getServer().getOnlinePlayers()) {
             scoreManager.registerPlayer(player);
             snowballManager.registerPlayer(player);
+            sessionRouter.bindPlayer(player, this);
+            broadcaster.join(player);
+        }
+        
+        // Put back the scores from a game that was cut short
+        if (resumed != null) {
+            restoreCheckpoint(resumed);
         }
         
+        // Keep everyone's own items safe before the countdown swaps them for snowballs
+        inventoryKeeper.captureAll(plugin.getServer().getOnlinePlayers());
+        
         // Update player status
         playerStatusManager.updateAllPlayers();
         
-        // Remove monsters
-        playerStatusManager.removeMonsters();
+        // Keep monsters out of the whole play area and clear any already inside
+        monsterSuppressor.updateGameBounds(boundaryDistance);
+        monsterSuppressor.clearArena();
+        
+        // A wave left over from the last game would release the chunks warmed up below
+        massTeleporter.cancelAll();
+        
+        // The countdown starts once everyone is at their spawn and the arena has loaded
+        teleportingPlayers = true;
+        int generation = gameGeneration;
+        AtomicInteger startingSteps = new AtomicInteger(2);
+        Runnable stepDone = () -> scheduler.executeGlobal(() -> {
+            if (generation == gameGeneration && startingSteps.decrementAndGet() == 0) {
+                teleportingPlayers = false;
+                startCountdown();
+            }
+        });
         
-        // Teleport players to spawn points
-        teleportPlayersToSpawnPoints();
+        // Load and pin the whole play area, and where players end up afterwards; a slow load
+        // holds the countdown back only so long, the rest keeps loading in the background
+        Runnable warmUpDone = once(stepDone);
+        ArenaGeometry geometry = locationUtil.getGeometry();
+        if (geometry.getWorld() != null) {
+            chunkWarmer.warmUp(geometry.getWorld(), geometry.getCenterX(), geometry.getCenterZ(), boundaryDistance,
+                               warmUpDone, locationUtil.getWinnerSpot(), locationUtil.getLoserSpot());
+            scheduler.runGlobalLater(warmUpDone, WARMUP_TIMEOUT_TICKS);
+        } else {
+            warmUpDone.run();
+        }
         
-        // Start countdown
-        startCountdown();
+        // Recheck every spawn, then teleport players to safe ones over a few ticks
+        teleportPlayersWhenValidated(stepDone);
         
         gameActive = true;
         
+        // Save the game every few seconds in case the server goes down mid-game
+        checkpointer.start(this::getCheckpointVersion, this::captureCheckpoint);
+        
         // Announce game start with cool particles in the sky
         Location middle = locationUtil.getMiddlePoint();
         if (middle != null) {
+            broadcaster.setArea(middle, boundaryDistance);
             effectsManager.createGameStartEffect(middle);
         }
         
         // Broadcast boundary information
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            player.sendMessage(ChatColor.YELLOW + "Boundary distance: " + 
-                              ChatColor.WHITE + (int)boundaryDistance + 
-                              ChatColor.YELLOW + " blocks from the middle.");
+        broadcaster.send(BOUNDARY_DISTANCE, (int) boundaryDistance);
+    }
+    
+    /**
+     * Puts saved scores back and re-marks threat players who are online
+     */
+    private void restoreCheckpoint(GameCheckpoint checkpoint) {
+        for (Map.Entry<UUID, Integer> entry : checkpoint.getScores().entrySet()) {
+            scoreManager.restoreScore(entry.getKey(), entry.getValue());
+        }
+        
+        for (UUID threatId : checkpoint.getThreats()) {
+            Player player = plugin.getServer().getPlayer(threatId);
+            if (player != null && scoreManager.isPlayerNearWin(player)) {
+                threatTracker.startTracking(player);
+            }
         }
     }
     
     /**
-     * Teleports players to spawn points
+     * Returns a number that changes whenever a score, threat or the game phase changes
      */
-    private void teleportPlayersToSpawnPoints() {
-        List<Location> spawnPoints = new ArrayList<>(locationUtil.getSpawnPoints());
+    private long getCheckpointVersion() {
+        return scoreManager.getStateVersion() * GameCheckpoint.Phase.values().length + getPhase().ordinal();
+    }
+    
+    private GameCheckpoint.Phase getPhase() {
+        if (teleportingPlayers) {
+            return GameCheckpoint.Phase.TELEPORTING;
+        }
+        return countdownActive ? GameCheckpoint.Phase.COUNTDOWN : GameCheckpoint.Phase.PLAYING;
+    }
+    
+    private GameCheckpoint captureCheckpoint() {
+        return new GameCheckpoint(System.currentTimeMillis(), scoreManager.getHitsToWin(),
+                                  scoreManager.getBoundaryDistance(), getPhase(),
+                                  scoreManager.getScoreSnapshot(), scoreManager.getThreatSnapshot());
+    }
+    
+    /**
+     * Starts the teleport wave once every spawn has been rechecked, so nobody is sent to a spawn
+     * that became unsafe since the last game. Gives up waiting after a few seconds and goes with
+     * whatever the checks have found by then.
+     */
+    private void teleportPlayersWhenValidated(Runnable onComplete) {
+        int generation = gameGeneration;
+        Runnable start = once(() -> {
+            // The game may have ended, or another started, while the checks were running
+            if (generation == gameGeneration) {
+                teleportPlayersToSpawnPoints(onComplete);
+            }
+        });
+        
+        spawnValidator.validateAll(() -> scheduler.executeGlobal(start));
+        scheduler.runGlobalLater(start, SPAWN_CHECK_TIMEOUT_TICKS);
+    }
+    
+    /**
+     * Wraps a task so that only the first of several triggers, such as a result and a timeout, runs it
+     */
+    private static Runnable once(Runnable task) {
+        AtomicBoolean ran = new AtomicBoolean();
+        return () -> {
+            if (ran.compareAndSet(false, true)) {
+                task.run();
+            }
+        };
+    }
+    
+    /**
+     * Assigns every player a spawn point, then teleports them in a wave
+     */
+    private void teleportPlayersToSpawnPoints(Runnable onComplete) {
+        List<Location> spawnPoints = getSafeSpawnPoints();
         Collections.shuffle(spawnPoints);
         
-        List<Player> players = new ArrayList<>(plugin.getServer().getOnlinePlayers());
+        Map<Player, Location> destinations = new LinkedHashMap<>();
+        List<Location> assigned = new ArrayList<>();
         
-        for (int i = 0; i < players.size(); i++) {
-            Player player = players.get(i);
-            
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
             // Find a spawn point at least 5 blocks away from other players
-            Location spawnLocation = findValidSpawnLocation(spawnPoints, players, i);
+            Location spawnLocation = findValidSpawnLocation(spawnPoints, assigned);
             
             if (spawnLocation != null) {
-                player.teleport(spawnLocation);
+                destinations.put(player, spawnLocation);
+                assigned.add(spawnLocation);
                 boundaryManager.updateLastValidLocation(player, spawnLocation);
             } else {
                 plugin.getLogger().warning("Could not find a valid spawn location for " + player.getName());
             }
         }
+        
+        massTeleporter.teleport(destinations, onComplete);
     }
     
     /**
      * Finds a valid spawn location for a player
      */
-    private Location findValidSpawnLocation(List<Location> spawnPoints, List<Player> players, int currentPlayerIndex) {
-        Player currentPlayer = players.get(currentPlayerIndex);
-        
+    private Location findValidSpawnLocation(List<Location> spawnPoints, List<Location> assigned) {
         for (Location spawnLocation : spawnPoints) {
             boolean isValid = true;
             
-            // Check if this spawn point is at least 5 blocks away from other already spawned players
-            for (int j = 0; j < currentPlayerIndex; j++) {
-                Player otherPlayer = players.get(j);
-                
+            // Check if this spawn point is at least 5 blocks away from the spawns already handed out
+            for (Location otherSpawn : assigned) {
                 // Calculate distance only in X and Z (horizontal plane)
-                double dx = otherPlayer.getLocation().getX() - spawnLocation.getX();
-                double dz = otherPlayer.getLocation().getZ() - spawnLocation.getZ();
+                double dx = otherSpawn.getX() - spawnLocation.getX();
+                double dz = otherSpawn.getZ() - spawnLocation.getZ();
                 double distance = Math.sqrt(dx * dx + dz * dz);
                 
                 if (distance < 5) {
@@ -176,23 +373,23 @@ public class GameManager {
     private void startCountdown() {
         countdownActive = true;
         
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            player.sendTitle(ChatColor.GOLD + "Game Starting", ChatColor.WHITE + "Prepare for Snowball Fight!", 10, 70, 20);
-        }
+        broadcaster.showTitle(GAME_STARTING_TITLE);
         
         effectsManager.startCountdownEffect(() -> {
             countdownActive = false;
             
-            // Give players snowballs and start snowball regeneration
+            // Give players snowballs and start snowball regeneration on each player's region
             for (Player player : plugin.getServer().getOnlinePlayers()) {
-                snowballManager.giveSnowballs(player);
-                snowballManager.startSnowballRegeneration(player);
+                scheduler.execute(player, () -> {
+                    snowballManager.giveSnowballs(player);
+                    snowballManager.startSnowballRegeneration(player);
+                });
             }
         });
     }
     
     /**
-     * Ends the current game
+     * Ends the current game; only called on the global region, or on shutdown
      */
     public void endGame() {
         if (!gameActive) {
@@ -203,54 +400,79 @@ public class GameManager {
         Player winner = scoreManager.getWinner();
         int highestScore = scoreManager.getHighestScore();
         
+        // The game finished normally, so its checkpoint is no longer needed
+        checkpointer.stop();
+        
+        // Stop any teleport wave still moving players to their spawns, or about to
+        gameGeneration++;
+        massTeleporter.cancelAll();
+        teleportingPlayers = false;
+        
         // Clean up tracking
         threatTracker.cleanup();
         snowballManager.cleanup();
+        respawnPipeline.cleanup();
+        boundaryManager.cleanup();
+        
+        // Stop the countdown, warning fireworks and falling trails still playing
+        effectsManager.cancelEffects();
         
         // Announce the winner
         if (winner != null) {
-            for (Player player : plugin.getServer().getOnlinePlayers()) {
-                player.sendTitle(
-                    ChatColor.GOLD + winner.getName() + " Wins!",
-                    ChatColor.WHITE + "With " + highestScore + " points!",
-                    10, 70, 20
-                );
-                player.playSound(player.getLocation(), org.bukkit.Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
-            }
+            broadcaster.showTitle(Title.title(WINNER_TITLE.render(winner.getName()),
+                                              WINNER_SUBTITLE.render(highestScore),
+                                              ANNOUNCEMENT_TIMES));
+            broadcaster.playSound(VICTORY_SOUND);
             
             // Victory effects
             effectsManager.createVictoryFireworks(winner);
             
-            // Teleport winner to winner spot, others to loser spot
+            // Teleport winner to winner spot, others to loser spot, then let the arena chunks unload
+            Map<Player, Location> destinations = new LinkedHashMap<>();
             for (Player player : plugin.getServer().getOnlinePlayers()) {
-                if (player.equals(winner)) {
-                    player.teleport(locationUtil.getWinnerSpot());
-                } else {
-                    player.teleport(locationUtil.getLoserSpot());
-                }
+                destinations.put(player, player.equals(winner) ? locationUtil.getWinnerSpot() : locationUtil.getLoserSpot());
             }
+            massTeleporter.teleport(destinations, chunkWarmer::release);
         } else {
-            for (Player player : plugin.getServer().getOnlinePlayers()) {
-                player.sendMessage(ChatColor.RED + "Game ended without a winner!");
-            }
+            chunkWarmer.release();
+            
+            broadcaster.send(NO_WINNER);
         }
         
         // Clean up game state
         gameActive = false;
         
+        // Stop routing events for this arena
+        sessionRouter.unbindSession(this);
+        broadcaster.clear();
+        
         // Remove snowballs from players' inventories
         for (Player player : plugin.getServer().getOnlinePlayers()) {
-            snowballManager.removeSnowballs(player);
+            scheduler.execute(player, () -> snowballManager.removeSnowballs(player));
         }
         
+        // Give players back the inventories they had before the game, a few per tick
+        inventoryKeeper.restoreAll();
+        
         // Clean up scoreboard and nametags
         scoreManager.cleanupScoreboard();
         
         // Update player status
         playerStatusManager.updateAllPlayers();
         
-        // Remove monsters
-        playerStatusManager.removeMonsters();
+        // Swap in any arena file edits made while the game was running
+        if (locationUtil.applyPendingReload()) {
+            plugin.getLogger().info("Reloaded arena with " + locationUtil.getGeometry().getSpawnCount() + " spawn points");
+        }
+        
+        // Add spawn points generated while the game was running
+        if (locationUtil.applyPendingSpawnPoints()) {
+            plugin.getLogger().info("Added generated spawn points held back during the game");
+        }
+        
+        // Clear monsters from the play area, then shrink back to guarding the spawn points
+        monsterSuppressor.clearArena();
+        monsterSuppressor.updateIdleBounds();
     }
     
     /**
@@ -260,13 +482,24 @@ public class GameManager {
         // Ensure player is in adventure mode with full health/hunger
         playerStatusManager.updatePlayerStatus(player);
         
+        if (!gameActive) {
+            // Give back anything held from a game they left or that was cut short by a crash
+            inventoryKeeper.restore(player);
+        }
+        
         if (gameActive) {
+            // Keep their own items safe before they get snowballs
+            inventoryKeeper.capture(player);
+            
             // Register player with managers
             scoreManager.registerPlayer(player);
             snowballManager.registerPlayer(player);
+            sessionRouter.bindPlayer(player, this);
+            broadcaster.join(player);
             
-            // Teleport player to a random spawn point
-            if (!countdownActive) {
+            // Teleport player to a random spawn point; before the countdown ends everyone
+            // gets snowballs together
+            if (!countdownActive && !teleportingPlayers) {
                 teleportPlayerToRandomSpawn(player);
                 snowballManager.giveSnowballs(player);
                 snowballManager.startSnowballRegeneration(player);
@@ -283,13 +516,16 @@ public class GameManager {
         boundaryManager.handlePlayerQuit(player);
         snowballManager.handlePlayerQuit(player);
         threatTracker.handlePlayerQuit(player);
+        respawnPipeline.handlePlayerQuit(player);
+        sessionRouter.unbindPlayer(player);
+        broadcaster.leave(player);
     }
     
     /**
      * Handles player movement
      */
     public void handlePlayerMove(Player player, Location to) {
-        if (!gameActive) return;
+        if (!gameActive || teleportingPlayers) return;
         
         if (boundaryManager.handlePlayerMove(player, to, countdownActive)) {
             // Player needs to be teleported to a spawn point (outside boundary)
@@ -301,36 +537,90 @@ public class GameManager {
      * Handles a snowball hit
      */
     public void handleSnowballHit(Player thrower, Player hit) {
-        if (!gameActive || thrower.equals(hit)) {
+        // Nothing counts until everyone is at their spawn and the arena has loaded
+        if (!gameActive || teleportingPlayers || thrower.equals(hit)) {
             return;
         }
         
-        // Check if the hit player was one away from winning
-        boolean wasNearWin = scoreManager.isPlayerNearWin(hit);
+        // --- Critical path: score mutation and win detection ---
+        
+        // If hit player was a threat (1 away from winning), decrease their score.
+        // The check and decrement are one atomic step so simultaneous hits only count once.
+        boolean wasNearWin = scoreManager.decrementIfNearWin(hit);
+        
+        // Increment thrower's score
+        ScoreLedger.ScoreChange change = scoreManager.incrementScore(thrower);
+        
+        // Check for winner - only the hit that claimed the win gets here
+        if (change.isWinningHit()) {
+            // Delay ending the game to allow for the visual effects
+            scheduler.runGlobalLater(this::endGame, 40L); // 2 seconds delay
+        }
+        
+        // --- Everything else is deferred to the effects queue ---
+        
+        // Queued work can run after the game ends; threat tracking from this game mustn't carry over
+        int generation = gameGeneration;
         
-        // If hit player was a threat (1 away from winning), decrease their score
         if (wasNearWin) {
-            scoreManager.decrementScore(hit);
-            
             // No text message - just play sound effect
-            for (Player player : plugin.getServer().getOnlinePlayers()) {
-                player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_ENDER_DRAGON_GROWL, 0.3f, 1.0f);
-            }
+            effectQueue.submit(EffectQueue.Priority.COSMETIC, () -> broadcaster.playSound(THREAT_DOWN_SOUND));
             
             // Stop tracking this player
-            threatTracker.stopTracking(hit);
+            effectQueue.submit(EffectQueue.Priority.ESSENTIAL, ifStillRunning(generation, () -> threatTracker.stopTracking(hit)));
         }
         
-        // Increment thrower's score
-        scoreManager.incrementScore(thrower);
-        
         // Play sound effects for the hit - No chat message for regular hits
-        hit.playSound(hit.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_HURT, 1.0f, 1.0f);
-        thrower.playSound(thrower.getLocation(), org.bukkit.Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 1.0f);
-        effectsManager.playHitEffects(hit);
+        effectQueue.submit(hit, EffectQueue.Priority.COSMETIC, () -> {
+            hit.playSound(hit.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_HURT, 1.0f, 1.0f);
+            effectsManager.playHitEffects(hit);
+        });
+        effectQueue.submit(thrower, EffectQueue.Priority.COSMETIC, () ->
+            thrower.playSound(thrower.getLocation(), org.bukkit.Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 1.0f));
         
         // First teleport player high in the air above middle, then to spawn point after delay
+        effectQueue.submit(hit, EffectQueue.Priority.ESSENTIAL, () -> sendToSky(hit));
+        
+        // Check if this hit made the thrower one away from winning
+        if (change.enteredNearWin()) {
+            // Only minimal effects when first reaching one-away status
+            effectQueue.submit(EffectQueue.Priority.ESSENTIAL, ifStillRunning(generation, () -> threatTracker.startTracking(thrower)));
+        } else if (change.leftNearWin()) {
+            // If they were a threat and no longer are, stop tracking
+            effectQueue.submit(EffectQueue.Priority.ESSENTIAL, ifStillRunning(generation, () -> threatTracker.stopTracking(thrower)));
+        }
+        
+        if (change.isWinningHit()) {
+            // Just one minimal message for win
+            effectQueue.submit(EffectQueue.Priority.ESSENTIAL, () -> broadcaster.send(WINNING_HIT, thrower.getName()));
+        }
+    }
+    
+    /**
+     * Wraps a task so it does nothing once the game it was queued in has ended
+     */
+    private Runnable ifStillRunning(int generation, Runnable task) {
+        return () -> {
+            if (generation == gameGeneration) {
+                task.run();
+            }
+        };
+    }
+    
+    /**
+     * Sends a hit player high above the arena, then back to a spawn point chosen now
+     */
+    private void sendToSky(Player hit) {
+        if (!gameActive || !hit.isOnline()) {
+            return;
+        }
+        
         Location middle = locationUtil.getMiddlePoint();
+        Location destination = pickRandomSpawn(hit);
+        if (middle == null || destination == null) {
+            return;
+        }
+        
         final Location highLocation = new Location(
             middle.getWorld(), 
             middle.getX(), 
@@ -338,55 +628,7 @@ public class GameManager {
             middle.getZ()
         );
         
-        // Teleport player high in the air
-        hit.teleport(highLocation);
-        
-        // Add falling trail
-        effectsManager.createFallingTrail(hit);
-        
-        // Then teleport to spawn point after a short delay (20 ticks = 1 second)
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (hit.isOnline() && gameActive) {
-                    teleportPlayerToRandomSpawn(hit);
-                    
-                    // Ensure player has full health and hunger
-                    playerStatusManager.updatePlayerStatus(hit);
-                    
-                    // Give snowballs again
-                    snowballManager.giveSnowballs(hit);
-                    
-                    // Restart their snowball regeneration
-                    snowballManager.startSnowballRegeneration(hit);
-                    
-                    // Add respawn effect
-                    effectsManager.createRespawnEffect(hit);
-                }
-            }
-        }.runTaskLater(plugin, 20L);
-        
-        // Check if the thrower is one away from winning
-        if (scoreManager.isPlayerNearWin(thrower) && !threatTracker.isTracking(thrower)) {
-            // Only minimal effects when first reaching one-away status
-            threatTracker.startTracking(thrower);
-        } else if (!scoreManager.isPlayerNearWin(thrower) && threatTracker.isTracking(thrower)) {
-            // If already tracking this player and they're no longer a threat, stop tracking
-            threatTracker.stopTracking(thrower);
-        }
-        
-        // Check for winner
-        if (scoreManager.hasPlayerWon(thrower)) {
-            // Just one minimal message for win
-            for (Player player : plugin.getServer().getOnlinePlayers()) {
-                player.sendMessage(ChatColor.GOLD + "★ " + 
-                                  ChatColor.GREEN + thrower.getName() + 
-                                  ChatColor.GOLD + " has won! ★");
-            }
-            
-            // Delay ending the game to allow for the visual effects
-            Bukkit.getScheduler().runTaskLater(plugin, this::endGame, 40L); // 2 seconds delay
-        }
+        respawnPipeline.respawn(hit, highLocation, destination);
     }
     
     /**
@@ -396,55 +638,107 @@ public class GameManager {
         snowballManager.handleSnowballThrow(event);
     }
     
+    /**
+     * Returns a copy of the spawn points not known to be unsafe.
+     * If every spawn is unsafe they are all returned, so players still go somewhere.
+     */
+    private List<Location> getSafeSpawnPoints() {
+        List<Location> allSpawnPoints = locationUtil.getSpawnPoints();
+        List<Location> safeSpawnPoints = new ArrayList<>(allSpawnPoints.size());
+        for (int i = 0; i < allSpawnPoints.size(); i++) {
+            if (spawnValidator.isSafe(i)) {
+                safeSpawnPoints.add(allSpawnPoints.get(i));
+            }
+        }
+        
+        if (safeSpawnPoints.isEmpty()) {
+            safeSpawnPoints.addAll(allSpawnPoints);
+        }
+        return safeSpawnPoints;
+    }
+    
     /**
      * Teleports a player to a random spawn point
      */
     private void teleportPlayerToRandomSpawn(Player player) {
-        List<Location> spawnPoints = new ArrayList<>(locationUtil.getSpawnPoints());
-        if (spawnPoints.isEmpty()) {
+        Location spawnLocation = pickRandomSpawn(player);
+        if (spawnLocation == null) {
             return;
         }
         
-        Collections.shuffle(spawnPoints);
+        player.teleportAsync(spawnLocation);
+        boundaryManager.updateLastValidLocation(player, spawnLocation);
+    }
+    
+    /**
+     * Picks a random safe spawn point, preferring ones at least 5 blocks from other players.
+     * Only a handful of random spawns are tried, so a respawn costs the same however many spawns
+     * the arena has.
+     */
+    private Location pickRandomSpawn(Player player) {
+        List<Location> spawnPoints = locationUtil.getSpawnPoints();
+        if (spawnPoints.isEmpty()) {
+            return null;
+        }
         
-        // Try to find a spawn point at least 5 blocks away from other players
-        for (Location spawnLocation : spawnPoints) {
-            boolean isFarEnough = true;
-            
-            for (Player otherPlayer : plugin.getServer().getOnlinePlayers()) {
-                if (!otherPlayer.equals(player)) {
-                    // Only check X and Z distance (horizontal plane)
-                    double dx = otherPlayer.getLocation().getX() - spawnLocation.getX();
-                    double dz = otherPlayer.getLocation().getZ() - spawnLocation.getZ();
-                    double distance = Math.sqrt(dx * dx + dz * dz);
-                    
-                    if (distance < 5) {
-                        isFarEnough = false;
-                        break;
-                    }
-                }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Location fallback = null;
+        for (int attempt = 0; attempt < SPAWN_PICK_ATTEMPTS; attempt++) {
+            int index = random.nextInt(spawnPoints.size());
+            if (!spawnValidator.isSafe(index)) {
+                continue;
             }
             
-            if (isFarEnough) {
-                player.teleport(spawnLocation);
-                boundaryManager.updateLastValidLocation(player, spawnLocation);
-                return;
+            Location spawnLocation = spawnPoints.get(index);
+            if (isFarFromOtherPlayers(player, spawnLocation)) {
+                return spawnLocation;
+            }
+            if (fallback == null) {
+                fallback = spawnLocation;
             }
         }
         
-        // If no suitable point is found, just use the first one
-        player.teleport(spawnPoints.get(0));
-        boundaryManager.updateLastValidLocation(player, spawnPoints.get(0));
+        // If no suitable point is found, use a safe one even if it's close to someone
+        if (fallback != null) {
+            return fallback;
+        }
+        
+        // Every spawn tried was unsafe; look through the rest from a random start, and if none
+        // are safe just use one so the player still goes somewhere
+        int start = random.nextInt(spawnPoints.size());
+        for (int i = 0; i < spawnPoints.size(); i++) {
+            int index = (start + i) % spawnPoints.size();
+            if (spawnValidator.isSafe(index)) {
+                return spawnPoints.get(index);
+            }
+        }
+        return spawnPoints.get(start);
     }
     
     /**
-     * Shows the current scores to all players
+     * Checks that a spawn point is at least 5 blocks from every other player
+     */
+    private boolean isFarFromOtherPlayers(Player player, Location spawnLocation) {
+        for (Player otherPlayer : plugin.getServer().getOnlinePlayers()) {
+            if (!otherPlayer.equals(player)) {
+                // Only check X and Z distance (horizontal plane)
+                double dx = otherPlayer.getLocation().getX() - spawnLocation.getX();
+                double dz = otherPlayer.getLocation().getZ() - spawnLocation.getZ();
+                double distance = Math.sqrt(dx * dx + dz * dz);
+                
+                if (distance < 5) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Shows the current scores to everyone in the game
      */
     public void showScoreboard() {
         if (!gameActive) {
-            for (Player player : plugin.getServer().getOnlinePlayers()) {
-                player.sendMessage(ChatColor.RED + "No game is currently active!");
-            }
             return;
         }
         
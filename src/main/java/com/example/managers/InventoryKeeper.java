@@ -0,0 +1,325 @@
+package com.example.managers;
+
+import com.example.util.AsyncFileWriter;
+import com.example.util.TaskHandle;
+import com.example.util.TaskScheduler;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Keeps players' own inventories safe while a game replaces them with snowballs.
+ * Every participant's inventory and armour is copied when the game starts, and all the copies
+ * are serialized together in one async task to a small file per player, so nothing is lost if
+ * the server stops mid-game. When the game ends the inventories are given back a few players per
+ * tick; a player who leaves first gets theirs back on the way out, and saved files left over
+ * from a crash are loaded at startup and restored when their owner next joins outside a game.
+ */
+public class InventoryKeeper {
+    private static final String FOLDER_NAME = "inventories";
+    private static final String FILE_SUFFIX = ".inv";
+    private static final int MAGIC = 0x53424956; // "SBIV"
+    private static final int VERSION = 1;
+
+    private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    private final AsyncFileWriter fileWriter;
+    private final File folder;
+    private final int restoresPerTick;
+    // Inventories taken and not yet given back, by player
+    private final Map<UUID, Snapshot> snapshots = new ConcurrentHashMap<>();
+    // Players waiting for their inventory after a game; only drained by the driver
+    private final Queue<UUID> pendingRestores = new ConcurrentLinkedQueue<>();
+    private TaskHandle driver;
+
+    public InventoryKeeper(JavaPlugin plugin, TaskScheduler scheduler, AsyncFileWriter fileWriter) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.fileWriter = fileWriter;
+        this.folder = new File(plugin.getDataFolder(), FOLDER_NAME);
+        this.restoresPerTick = Math.max(1, plugin.getConfig().getInt("inventory.restores-per-tick", 10));
+
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+        scheduler.runAsync(this::loadSavedSnapshots);
+    }
+
+    /**
+     * Takes a copy of every player's inventory, then saves all the copies in one batch.
+     * Restores still queued from the last game are dropped, and players who still have a
+     * snapshot keep it rather than having it overwritten with their game inventory.
+     */
+    public void captureAll(Collection<? extends Player> players) {
+        pendingRestores.clear();
+
+        List<Snapshot> batch = new ArrayList<>(players.size());
+        AtomicInteger remaining = new AtomicInteger(players.size());
+        // Counted for players who leave before their copy is taken too, or nobody's would be saved
+        Runnable playerDone = () -> {
+            if (remaining.decrementAndGet() == 0) {
+                scheduler.runAsync(() -> save(batch));
+            }
+        };
+        for (Player player : players) {
+            scheduler.execute(player, () -> {
+                Snapshot snapshot = takeSnapshot(player);
+                if (snapshot != null) {
+                    synchronized (batch) {
+                        batch.add(snapshot);
+                    }
+                }
+                playerDone.run();
+            }, playerDone);
+        }
+    }
+
+    /**
+     * Takes a copy of one player's inventory, for someone joining a game already in progress
+     */
+    public void capture(Player player) {
+        Snapshot snapshot = takeSnapshot(player);
+        if (snapshot != null) {
+            List<Snapshot> batch = new ArrayList<>(1);
+            batch.add(snapshot);
+            scheduler.runAsync(() -> save(batch));
+        }
+    }
+
+    /**
+     * Copies the inventory on the player's own thread; returns null if they already have a snapshot
+     */
+    private Snapshot takeSnapshot(Player player) {
+        if (!player.isOnline() || snapshots.containsKey(player.getUniqueId())) {
+            return null;
+        }
+
+        ItemStack[] contents = player.getInventory().getContents();
+        for (int i = 0; i < contents.length; i++) {
+            if (contents[i] != null) {
+                contents[i] = contents[i].clone();
+            }
+        }
+
+        Snapshot snapshot = new Snapshot(player.getUniqueId(), contents);
+        snapshots.put(snapshot.owner, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Queues every online player who has a snapshot to get their inventory back, a few per tick
+     */
+    public void restoreAll() {
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            if (snapshots.containsKey(player.getUniqueId())) {
+                pendingRestores.add(player.getUniqueId());
+            }
+        }
+        if (driver == null && !pendingRestores.isEmpty()) {
+            driver = scheduler.runGlobalTimer(task -> drainRestores(), 1L, 1L);
+        }
+    }
+
+    private void drainRestores() {
+        UUID owner;
+        int budget = restoresPerTick;
+        while (budget > 0 && (owner = pendingRestores.poll()) != null) {
+            // Players who left have already had theirs restored, or keep the file for next time
+            Player player = plugin.getServer().getPlayer(owner);
+            if (player != null) {
+                scheduler.execute(player, () -> restore(player));
+                budget--;
+            }
+        }
+
+        // Park the driver until the next game ends
+        if (pendingRestores.isEmpty()) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+
+    /**
+     * Gives back a player's inventory straight away; must run on the player's own thread
+     */
+    public void restore(Player player) {
+        Snapshot snapshot = snapshots.remove(player.getUniqueId());
+        if (snapshot == null) {
+            return;
+        }
+
+        player.getInventory().setContents(snapshot.contents);
+        player.updateInventory();
+
+        // Any save still queued for this snapshot must not bring the file back
+        synchronized (snapshot) {
+            snapshot.restored = true;
+            fileWriter.delete(fileFor(snapshot.owner), null);
+        }
+    }
+
+    /**
+     * Gives back everyone's inventory in the calling thread, for when the plugin is disabled.
+     * Region-threaded servers keep the saved files and restore them when players next join.
+     */
+    public void restoreOnlineNow() {
+        pendingRestores.clear();
+        if (scheduler.isRegionThreaded()) {
+            return;
+        }
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            restore(player);
+        }
+    }
+
+    /**
+     * Returns the number of players whose inventories are currently held
+     */
+    public int getHeldCount() {
+        return snapshots.size();
+    }
+
+    /**
+     * Returns the number of players waiting for their inventory after a game
+     */
+    public int getPendingRestoreCount() {
+        return pendingRestores.size();
+    }
+
+    /**
+     * Serializes a batch of snapshots and hands the bytes to the file writer
+     */
+    private void save(List<Snapshot> batch) {
+        for (Snapshot snapshot : batch) {
+            byte[] bytes;
+            try {
+                bytes = encode(snapshot.contents);
+            } catch (IOException | RuntimeException e) {
+                plugin.getLogger().log(Level.SEVERE, "Could not serialize the inventory of " + snapshot.owner, e);
+                continue;
+            }
+
+            synchronized (snapshot) {
+                if (!snapshot.restored) {
+                    fileWriter.write(fileFor(snapshot.owner), bytes, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads inventories saved before the last shutdown, so a crash mid-game loses nothing
+     */
+    private void loadSavedSnapshots() {
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            String name = file.getName();
+            UUID owner;
+            try {
+                owner = UUID.fromString(name.substring(0, name.length() - FILE_SUFFIX.length()));
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+
+            try {
+                ItemStack[] contents = decode(Files.readAllBytes(file.toPath()));
+                snapshots.putIfAbsent(owner, new Snapshot(owner, contents));
+            } catch (IOException | RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not read saved inventory " + name, e);
+            }
+        }
+
+        if (!snapshots.isEmpty()) {
+            plugin.getLogger().info("Holding " + snapshots.size() + " inventories from an unfinished game");
+        }
+    }
+
+    private File fileFor(UUID owner) {
+        return new File(folder, owner + FILE_SUFFIX);
+    }
+
+    /**
+     * Header, slot count, then a length-prefixed item per slot with 0 for an empty slot
+     */
+    private static byte[] encode(ItemStack[] contents) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeShort(contents.length);
+            for (ItemStack item : contents) {
+                if (item == null || item.getType().isAir()) {
+                    out.writeInt(0);
+                    continue;
+                }
+                byte[] bytes = item.serializeAsBytes();
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    private static ItemStack[] decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a saved inventory");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported saved inventory version " + version);
+            }
+
+            ItemStack[] contents = new ItemStack[in.readUnsignedShort()];
+            for (int i = 0; i < contents.length; i++) {
+                int length = in.readInt();
+                if (length < 0 || length > in.available()) {
+                    throw new IOException("Saved inventory is truncated");
+                }
+                if (length > 0) {
+                    byte[] bytes = new byte[length];
+                    in.readFully(bytes);
+                    contents[i] = ItemStack.deserializeBytes(bytes);
+                }
+            }
+            return contents;
+        }
+    }
+
+    /**
+     * One player's inventory as it was before the game
+     */
+    private static final class Snapshot {
+        private final UUID owner;
+        private final ItemStack[] contents;
+        // Set once the inventory is given back, guarded by the snapshot itself
+        private boolean restored;
+
+        private Snapshot(UUID owner, ItemStack[] contents) {
+            this.owner = owner;
+            this.contents = contents;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.managers;
+
+import com.example.util.TaskHandle;
+import com.example.util.TaskScheduler;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Teleports many players in waves spread over several ticks.
+ * Each wave groups its players by destination chunk so a chunk is loaded once for
+ * everyone heading there, then a single driver task sends at most a fixed number of async
+ * teleports per tick. A wave's completion callback runs on the global region once every
+ * teleport in it has finished, or after a timeout if some never report back.
+ */
+public class MassTeleporter {
+    private static final long WAVE_TIMEOUT_TICKS = 200L; // Give up waiting for stragglers after 10 seconds
+
+    private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    private final int perTick;
+    // New waves are handed over through this queue; the active list is only touched by the driver
+    private final Queue<Wave> pending = new ConcurrentLinkedQueue<>();
+    private final List<Wave> active = new ArrayList<>();
+    private TaskHandle driver;
+    // Bumped by cancelAll; waves started before the bump stop sending teleports and never complete
+    private volatile int generation;
+    private volatile long lastWaveMillis = -1;
+    private volatile int lastWaveSize;
+
+    public MassTeleporter(JavaPlugin plugin, TaskScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.perTick = Math.max(1, plugin.getConfig().getInt("teleport.per-tick", 10));
+    }
+
+    /**
+     * Teleports every player to their destination, running onComplete once all have arrived
+     *
+     * @param destinations where each player goes, in the order they were assigned
+     * @param onComplete run on the global region when the wave finishes; may be null
+     */
+    public void teleport(Map<Player, Location> destinations, Runnable onComplete) {
+        Wave wave = new Wave(destinations, onComplete, generation);
+        if (wave.size == 0) {
+            if (onComplete != null) {
+                scheduler.executeGlobal(onComplete);
+            }
+            return;
+        }
+
+        pending.add(wave);
+        scheduler.executeGlobal(this::ensureDriver);
+        scheduler.runGlobalLater(() -> finish(wave), WAVE_TIMEOUT_TICKS);
+    }
+
+    /**
+     * Stops every wave; teleports already sent still happen but no completion callbacks run
+     */
+    public void cancelAll() {
+        generation++;
+    }
+
+    /**
+     * Starts the driver if it isn't running; only called on the global region
+     */
+    private void ensureDriver() {
+        if (driver == null && !pending.isEmpty()) {
+            driver = scheduler.runGlobalTimer(task -> tick(), 1L, 1L);
+        }
+    }
+
+    /**
+     * Sends up to the per-tick cap of teleports, oldest wave first
+     */
+    private void tick() {
+        Wave added;
+        while ((added = pending.poll()) != null) {
+            active.add(added);
+        }
+
+        int budget = perTick;
+        while (!active.isEmpty() && budget > 0) {
+            Wave wave = active.get(0);
+            if (wave.generation != generation) {
+                active.remove(0);
+                continue;
+            }
+
+            int sent = wave.dispatch(budget, budget == perTick);
+            budget -= sent;
+            if (wave.isDispatched()) {
+                active.remove(0);
+            } else if (sent == 0) {
+                // The next chunk group doesn't fit in what's left of this tick
+                break;
+            }
+        }
+
+        // Park the driver until another wave arrives
+        if (active.isEmpty() && pending.isEmpty()) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+
+    private void teleportOne(Wave wave, Player player, Location destination) {
+        if (!player.isOnline()) {
+            arrived(wave);
+            return;
+        }
+
+        scheduler.execute(player, () -> player.teleportAsync(destination).whenComplete((success, error) -> arrived(wave)));
+    }
+
+    private void arrived(Wave wave) {
+        if (wave.remaining.decrementAndGet() == 0) {
+            scheduler.executeGlobal(() -> finish(wave));
+        }
+    }
+
+    private void finish(Wave wave) {
+        if (!wave.finished.compareAndSet(false, true) || wave.generation != generation) {
+            return;
+        }
+
+        lastWaveMillis = (System.nanoTime() - wave.startNanos) / 1_000_000;
+        lastWaveSize = wave.size;
+        if (wave.onComplete != null) {
+            wave.onComplete.run();
+        }
+    }
+
+    /**
+     * Returns how long the last finished wave took, or -1 if none has finished
+     */
+    public long getLastWaveMillis() {
+        return lastWaveMillis;
+    }
+
+    public int getLastWaveSize() {
+        return lastWaveSize;
+    }
+
+    /**
+     * One group of teleports, ordered so players bound for the same chunk go together
+     */
+    private final class Wave {
+        private final List<List<Map.Entry<Player, Location>>> groups = new ArrayList<>();
+        private final Runnable onComplete;
+        private final int generation;
+        private final int size;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger remaining;
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private int groupIndex;
+        private int groupOffset;
+
+        private Wave(Map<Player, Location> destinations, Runnable onComplete, int generation) {
+            this.onComplete = onComplete;
+            this.generation = generation;
+            this.size = destinations.size();
+            this.remaining = new AtomicInteger(size);
+
+            Map<String, List<Map.Entry<Player, Location>>> byChunk = new LinkedHashMap<>();
+            for (Map.Entry<Player, Location> entry : destinations.entrySet()) {
+                Location destination = entry.getValue();
+                String world = destination.getWorld() == null ? "" : destination.getWorld().getName();
+                String chunk = world + ":" + (destination.getBlockX() >> 4) + ":" + (destination.getBlockZ() >> 4);
+                byChunk.computeIfAbsent(chunk, key -> new ArrayList<>()).add(entry);
+            }
+            groups.addAll(byChunk.values());
+        }
+
+        /**
+         * Sends teleports from whole chunk groups that fit in the budget.
+         * A group bigger than a whole tick's budget is split across ticks.
+         */
+        private int dispatch(int budget, boolean freshTick) {
+            int sent = 0;
+            while (groupIndex < groups.size() && sent < budget) {
+                List<Map.Entry<Player, Location>> group = groups.get(groupIndex);
+                int left = group.size() - groupOffset;
+                if (left > budget - sent && !(freshTick && sent == 0)) {
+                    break;
+                }
+
+                int count = Math.min(left, budget - sent);
+                for (int i = 0; i < count; i++) {
+                    Map.Entry<Player, Location> entry = group.get(groupOffset++);
+                    teleportOne(this, entry.getKey(), entry.getValue());
+                }
+                sent += count;
+                if (groupOffset == group.size()) {
+                    groupIndex++;
+                    groupOffset = 0;
+                }
+            }
+            return sent;
+        }
+
+        private boolean isDispatched() {
+            return groupIndex >= groups.size();
+        }
+    }
+}
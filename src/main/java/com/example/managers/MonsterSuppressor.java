@@ -0,0 +1,187 @@
+package com.example.managers;
+
+import com.example.util.ArenaGeometry;
+import com.example.util.LocationUtil;
+import com.example.util.TaskScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Monster;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps monsters out of the arena.
+ * Monster spawns inside the arena bounds are cancelled as they happen, so instead of
+ * sweeping every world on a timer the arena only needs clearing when a game starts or
+ * ends, and that clear only visits the arena's own loaded chunks, each exactly once.
+ */
+public class MonsterSuppressor {
+    private static final double IDLE_MARGIN = 16.0; // Blocks around the spawn points when no game is running
+    private static final double GAME_MARGIN = 10.0; // Matches the hard limit beyond the boundary distance
+
+    private final TaskScheduler scheduler;
+    private final LocationUtil locationUtil;
+    private final AtomicLong suppressedSpawns = new AtomicLong();
+    private final AtomicLong removedMonsters = new AtomicLong();
+    private volatile Bounds bounds;
+    private volatile boolean gameRunning;
+
+    public MonsterSuppressor(TaskScheduler scheduler, LocationUtil locationUtil) {
+        this.scheduler = scheduler;
+        this.locationUtil = locationUtil;
+        updateIdleBounds();
+    }
+
+    /**
+     * Covers the whole play area, out to the hard boundary limit, for a running game
+     */
+    public void updateGameBounds(double boundaryDistance) {
+        ArenaGeometry geometry = locationUtil.getGeometry();
+        if (!geometry.hasSpawnPoints() || geometry.getWorld() == null) {
+            return;
+        }
+
+        double radius = boundaryDistance + GAME_MARGIN;
+        bounds = new Bounds(geometry, geometry.getWorld().getUID(),
+                            geometry.getCenterX() - radius, geometry.getCenterX() + radius,
+                            geometry.getCenterZ() - radius, geometry.getCenterZ() + radius);
+        gameRunning = true;
+    }
+
+    /**
+     * Goes back to covering the spawn points plus a margin once the game is over
+     */
+    public void updateIdleBounds() {
+        gameRunning = false;
+        bounds = idleBounds(locationUtil.getGeometry());
+    }
+
+    /**
+     * Returns the bounds to check against, following arena edits made between games
+     */
+    private Bounds currentBounds() {
+        Bounds current = bounds;
+        if (gameRunning) {
+            return current;
+        }
+
+        // The geometry is replaced on every edit, so a different instance means the arena changed
+        ArenaGeometry geometry = locationUtil.getGeometry();
+        if (current == null || current.source != geometry) {
+            current = idleBounds(geometry);
+            bounds = current;
+        }
+        return current;
+    }
+
+    private static Bounds idleBounds(ArenaGeometry geometry) {
+        if (!geometry.hasSpawnPoints() || geometry.getWorld() == null) {
+            return null;
+        }
+        return new Bounds(geometry, geometry.getWorld().getUID(),
+                          geometry.getMinX() - IDLE_MARGIN, geometry.getMaxX() + IDLE_MARGIN,
+                          geometry.getMinZ() - IDLE_MARGIN, geometry.getMaxZ() + IDLE_MARGIN);
+    }
+
+    /**
+     * Returns true if a monster spawning here should be cancelled; counts the cancellation
+     */
+    public boolean shouldSuppress(Location location) {
+        Bounds current = currentBounds();
+        if (current != null && current.contains(location)) {
+            suppressedSpawns.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes monsters already inside the arena.
+     * Only chunks that overlap the arena and are loaded are visited, each on its own region.
+     */
+    public void clearArena() {
+        Bounds current = currentBounds();
+        if (current == null) {
+            return;
+        }
+
+        World world = Bukkit.getWorld(current.worldId);
+        if (world == null) {
+            return;
+        }
+
+        int minChunkX = (int) Math.floor(current.minX) >> 4;
+        int maxChunkX = (int) Math.floor(current.maxX) >> 4;
+        int minChunkZ = (int) Math.floor(current.minZ) >> 4;
+        int maxChunkZ = (int) Math.floor(current.maxZ) >> 4;
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                // Never load chunks just to clear them
+                if (!world.isChunkLoaded(chunkX, chunkZ)) {
+                    continue;
+                }
+
+                final int cx = chunkX;
+                final int cz = chunkZ;
+                Location chunkCenter = new Location(world, (cx << 4) + 8, 0, (cz << 4) + 8);
+                scheduler.execute(chunkCenter, () -> clearChunk(world.getChunkAt(cx, cz), current));
+            }
+        }
+    }
+
+    private void clearChunk(Chunk chunk, Bounds area) {
+        for (Entity entity : chunk.getEntities()) {
+            if (entity instanceof Monster && area.contains(entity.getLocation())) {
+                entity.remove();
+                removedMonsters.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of monster spawns cancelled inside the arena
+     */
+    public long getSuppressedSpawnCount() {
+        return suppressedSpawns.get();
+    }
+
+    /**
+     * Returns the number of monsters removed by arena clears
+     */
+    public long getRemovedMonsterCount() {
+        return removedMonsters.get();
+    }
+
+    /**
+     * Horizontal box around the arena in a single world
+     */
+    private static final class Bounds {
+        private final ArenaGeometry source;
+        private final UUID worldId;
+        private final double minX;
+        private final double maxX;
+        private final double minZ;
+        private final double maxZ;
+
+        private Bounds(ArenaGeometry source, UUID worldId, double minX, double maxX, double minZ, double maxZ) {
+            this.source = source;
+            this.worldId = worldId;
+            this.minX = minX;
+            this.maxX = maxX;
+            this.minZ = minZ;
+            this.maxZ = maxZ;
+        }
+
+        private boolean contains(Location location) {
+            double x = location.getX();
+            double z = location.getZ();
+            return x >= minX && x <= maxX && z >= minZ && z <= maxZ
+                && location.getWorld() != null && worldId.equals(location.getWorld().getUID());
+        }
+    }
+}
@@ -1,18 +1,39 @@
 package com.example.managers;
 
+import com.example.util.TaskScheduler;
 import org.bukkit.GameMode;
-import org.bukkit.entity.Entity;
-import org.bukkit.entity.Monster;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps players in adventure mode with full health and hunger.
+ * Hunger, damage and game mode changes are blocked as they happen by PlayerStatusListener;
+ * a slow audit spread over many ticks then catches anything that slipped through and only
+ * touches the players whose state is actually wrong.
+ */
 public class PlayerStatusManager {
+    private static final long AUDIT_STEP_TICKS = 20L; // Audit a slice of players every second
+    private static final int AUDIT_CYCLE_STEPS = 30; // Every player is audited once per 30 seconds
+    
     private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    private final AtomicLong gameModeCorrections = new AtomicLong();
+    private final AtomicLong healthCorrections = new AtomicLong();
+    private final AtomicLong hungerCorrections = new AtomicLong();
     
-    public PlayerStatusManager(JavaPlugin plugin) {
+    // Audit cycle state, only touched by the global audit task
+    private List<Player> auditPlayers = new ArrayList<>();
+    private int auditCursor;
+    private int auditSliceSize;
+    
+    public PlayerStatusManager(JavaPlugin plugin, TaskScheduler scheduler) {
         this.plugin = plugin;
-        startStatusUpdateTask();
+        this.scheduler = scheduler;
+        startStatusAuditTask();
     }
     
     /**
@@ -38,33 +59,76 @@ public class PlayerStatusManager {
      */
     public void updateAllPlayers() {
         for (Player player : plugin.getServer().getOnlinePlayers()) {
-            updatePlayerStatus(player);
+            scheduler.execute(player, () -> updatePlayerStatus(player));
         }
     }
     
     /**
-     * Removes monsters in all worlds
+     * Fixes only the parts of a player's status that differ from what the game requires
      */
-    public void removeMonsters() {
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            for (Entity entity : player.getWorld().getEntities()) {
-                if (entity instanceof Monster) {
-                    entity.remove();
-                }
-            }
+    private void auditPlayer(Player player) {
+        if (!player.isOnline()) {
+            return;
+        }
+        
+        if (player.getGameMode() != GameMode.ADVENTURE) {
+            player.setGameMode(GameMode.ADVENTURE);
+            gameModeCorrections.incrementAndGet();
+        }
+        
+        if (player.getHealth() < player.getMaxHealth()) {
+            player.setHealth(player.getMaxHealth());
+            healthCorrections.incrementAndGet();
+        }
+        
+        if (player.getFoodLevel() < 20) {
+            player.setFoodLevel(20);
+            player.setSaturation(20);
+            player.setExhaustion(0);
+            hungerCorrections.incrementAndGet();
         }
     }
     
     /**
-     * Starts a task to periodically update player status and remove monsters
+     * Starts the audit, which checks a slice of the online players each step
+     */
+    private void startStatusAuditTask() {
+        scheduler.runGlobalTimer(task -> auditStep(), AUDIT_STEP_TICKS, AUDIT_STEP_TICKS);
+    }
+    
+    private void auditStep() {
+        // Start a new cycle over a snapshot of who is online now
+        if (auditCursor >= auditPlayers.size()) {
+            auditPlayers = new ArrayList<>(plugin.getServer().getOnlinePlayers());
+            auditCursor = 0;
+            auditSliceSize = Math.max(1, (auditPlayers.size() + AUDIT_CYCLE_STEPS - 1) / AUDIT_CYCLE_STEPS);
+        }
+        
+        int end = Math.min(auditPlayers.size(), auditCursor + auditSliceSize);
+        for (; auditCursor < end; auditCursor++) {
+            Player player = auditPlayers.get(auditCursor);
+            scheduler.execute(player, () -> auditPlayer(player));
+        }
+    }
+    
+    /**
+     * Returns the number of game mode changes the audit had to undo
+     */
+    public long getGameModeCorrections() {
+        return gameModeCorrections.get();
+    }
+    
+    /**
+     * Returns the number of times the audit had to restore health
+     */
+    public long getHealthCorrections() {
+        return healthCorrections.get();
+    }
+    
+    /**
+     * Returns the number of times the audit had to restore hunger
      */
-    private void startStatusUpdateTask() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                updateAllPlayers();
-                removeMonsters();
-            }
-        }.runTaskTimer(plugin, 20L, 200L); // Run every 10 seconds (200 ticks)
+    public long getHungerCorrections() {
+        return hungerCorrections.get();
     }
 }
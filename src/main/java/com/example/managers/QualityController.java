@@ -0,0 +1,133 @@
+package com.example.managers;
+
+import com.example.util.TaskHandle;
+import com.example.util.TaskScheduler;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * Watches server tick duration (MSPT) and lowers effect quality when the server is
+ * under load, raising it again once load drops. A level only changes after several
+ * consecutive samples agree, and the degrade/recover thresholds are kept apart so
+ * the level doesn't flap around a single MSPT value.
+ */
+public class QualityController {
+    private static final long SAMPLE_PERIOD_TICKS = 20L;
+    
+    private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    private final double degradeAboveMspt;
+    private final double recoverBelowMspt;
+    private final int samplesToChange;
+    private final boolean enabled;
+    
+    private volatile QualityLevel level = QualityLevel.HIGH;
+    private volatile double smoothedMspt;
+    private int samplesOverThreshold;
+    private int samplesUnderThreshold;
+    private boolean averageTickTimeSupported = true;
+    private long lastSampleNanos;
+    private TaskHandle sampleTask;
+    
+    public QualityController(JavaPlugin plugin, TaskScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        
+        // Read thresholds from config.yml
+        this.enabled = plugin.getConfig().getBoolean("quality.adaptive", true);
+        this.degradeAboveMspt = plugin.getConfig().getDouble("quality.degrade-above-mspt", 40.0);
+        this.recoverBelowMspt = plugin.getConfig().getDouble("quality.recover-below-mspt", 30.0);
+        this.samplesToChange = Math.max(1, plugin.getConfig().getInt("quality.samples-to-change", 5));
+    }
+    
+    /**
+     * Starts sampling once per second
+     */
+    public void start() {
+        if (!enabled || sampleTask != null) {
+            return;
+        }
+        lastSampleNanos = System.nanoTime();
+        sampleTask = scheduler.runGlobalTimer(task -> sample(), SAMPLE_PERIOD_TICKS, SAMPLE_PERIOD_TICKS);
+    }
+    
+    public void stop() {
+        if (sampleTask != null) {
+            sampleTask.cancel();
+            sampleTask = null;
+        }
+    }
+    
+    /**
+     * Takes one MSPT sample and moves the quality level if the trend has held long enough
+     */
+    private void sample() {
+        double mspt = readMspt();
+        
+        // Exponential moving average smooths out single slow ticks
+        smoothedMspt = smoothedMspt == 0 ? mspt : smoothedMspt * 0.7 + mspt * 0.3;
+        
+        if (smoothedMspt > degradeAboveMspt) {
+            samplesOverThreshold++;
+            samplesUnderThreshold = 0;
+        } else if (smoothedMspt < recoverBelowMspt) {
+            samplesUnderThreshold++;
+            samplesOverThreshold = 0;
+        } else {
+            // Inside the hysteresis band - hold the current level
+            samplesOverThreshold = 0;
+            samplesUnderThreshold = 0;
+        }
+        
+        if (samplesOverThreshold >= samplesToChange) {
+            changeLevel(level.lower());
+            samplesOverThreshold = 0;
+        } else if (samplesUnderThreshold >= samplesToChange) {
+            changeLevel(level.higher());
+            samplesUnderThreshold = 0;
+        }
+    }
+    
+    /**
+     * Reads the server's average tick time, falling back to how far the time between
+     * samples overran 50ms a tick on servers that don't report it (e.g. region-threaded servers)
+     */
+    private double readMspt() {
+        long now = System.nanoTime();
+        double elapsedPerTick = (now - lastSampleNanos) / 1_000_000.0 / SAMPLE_PERIOD_TICKS;
+        lastSampleNanos = now;
+        
+        if (averageTickTimeSupported) {
+            try {
+                return plugin.getServer().getAverageTickTime();
+            } catch (UnsupportedOperationException e) {
+                averageTickTimeSupported = false;
+            }
+        }
+        
+        // A healthy server takes 50ms of wall time per tick however little work it does, so
+        // only the overrun is comparable to the work a tick took
+        return Math.max(0, elapsedPerTick - 50);
+    }
+    
+    private void changeLevel(QualityLevel newLevel) {
+        if (newLevel == level) {
+            return;
+        }
+        plugin.getLogger().info(String.format("Effect quality %s -> %s (MSPT %.1f)", level, newLevel, smoothedMspt));
+        level = newLevel;
+    }
+    
+    /**
+     * Returns the current effect quality level
+     */
+    public QualityLevel getLevel() {
+        return level;
+    }
+    
+    /**
+     * Returns the smoothed MSPT the level is based on
+     */
+    public double getSmoothedMspt() {
+        return smoothedMspt;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.managers;
+
+/**
+ * Effect quality levels, from full effects down to the bare minimum under heavy load
+ */
+public enum QualityLevel {
+    HIGH(1.0, 1, 4, 1),
+    MEDIUM(0.5, 2, 8, 10),
+    LOW(0.25, 4, 16, 20),
+    MINIMAL(0.0, 8, 0, 40);
+    
+    private final double fireworkFraction;
+    private final int particleStride;
+    private final int regenSoundInterval;
+    private final int scoreboardRefreshTicks;
+    
+    QualityLevel(double fireworkFraction, int particleStride, int regenSoundInterval, int scoreboardRefreshTicks) {
+        this.fireworkFraction = fireworkFraction;
+        this.particleStride = particleStride;
+        this.regenSoundInterval = regenSoundInterval;
+        this.scoreboardRefreshTicks = scoreboardRefreshTicks;
+    }
+    
+    /**
+     * Scales a full-quality firework count down for this level
+     */
+    public int scaleFireworks(int fullCount) {
+        return (int) Math.round(fullCount * fireworkFraction);
+    }
+    
+    /**
+     * Only every Nth trail or circle particle is spawned
+     */
+    public int getParticleStride() {
+        return particleStride;
+    }
+    
+    /**
+     * A regeneration sound plays every N snowballs; 0 means only the first after running out
+     */
+    public int getRegenSoundInterval() {
+        return regenSoundInterval;
+    }
+    
+    /**
+     * Minimum ticks between scoreboard rebuilds
+     */
+    public int getScoreboardRefreshTicks() {
+        return scoreboardRefreshTicks;
+    }
+    
+    /**
+     * The next lower quality level, or this one if already at the bottom
+     */
+    public QualityLevel lower() {
+        QualityLevel[] levels = values();
+        return ordinal() < levels.length - 1 ? levels[ordinal() + 1] : this;
+    }
+    
+    /**
+     * The next higher quality level, or this one if already at the top
+     */
+    public QualityLevel higher() {
+        return ordinal() > 0 ? values()[ordinal() - 1] : this;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.managers;
+
+import com.example.util.TaskScheduler;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Sends hit players up into the sky and back down to a spawn point.
+ * The spawn is chosen when the hit happens, both moves use async teleports, and each
+ * stage starts from the previous teleport's completion rather than a fixed delay. When
+ * the player lands their status, snowballs and regeneration are restored in one step on
+ * their own region. A refused spawn teleport is retried with a freshly picked spawn, and
+ * the player is only restored once a teleport has actually put them there.
+ */
+public class RespawnPipeline {
+    private static final long SKY_TICKS = 20L; // Time spent falling before the respawn
+    private static final int LANDING_ATTEMPTS = 3; // Spawns tried before giving up on a respawn
+    private static final long RETRY_TICKS = 5L;
+
+    private final TaskScheduler scheduler;
+    private final PlayerStatusManager playerStatusManager;
+    private final SnowballManager snowballManager;
+    private final EffectsManager effectsManager;
+    private final BoundaryManager boundaryManager;
+    private final EffectQueue effectQueue;
+    private final BooleanSupplier gameActive;
+    private final Function<Player, Location> spawnPicker;
+
+    // Players between being hit and landing, with when their respawn started
+    private final Map<UUID, Long> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failedTeleports = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public RespawnPipeline(TaskScheduler scheduler, PlayerStatusManager playerStatusManager,
+                           SnowballManager snowballManager, EffectsManager effectsManager,
+                           BoundaryManager boundaryManager, EffectQueue effectQueue, BooleanSupplier gameActive,
+                           Function<Player, Location> spawnPicker) {
+        this.scheduler = scheduler;
+        this.playerStatusManager = playerStatusManager;
+        this.snowballManager = snowballManager;
+        this.effectsManager = effectsManager;
+        this.boundaryManager = boundaryManager;
+        this.effectQueue = effectQueue;
+        this.gameActive = gameActive;
+        this.spawnPicker = spawnPicker;
+    }
+
+    /**
+     * Starts a respawn: up to the sky location, then down to the destination after a short fall
+     */
+    public void respawn(Player player, Location skyLocation, Location destination) {
+        inFlight.put(player.getUniqueId(), System.nanoTime());
+
+        player.teleportAsync(skyLocation).whenComplete((arrived, error) -> scheduler.execute(player, () -> {
+            if (!isStillPlaying(player)) {
+                inFlight.remove(player.getUniqueId());
+                return;
+            }
+
+            // Never made it up, so there is no fall to wait for
+            if (error != null || !arrived) {
+                land(player, destination, 1);
+                return;
+            }
+
+            // Add falling trail
+            effectQueue.submit(player, EffectQueue.Priority.COSMETIC, () -> effectsManager.createFallingTrail(player));
+            scheduler.runLater(player, () -> land(player, destination, 1), SKY_TICKS);
+        }));
+    }
+
+    private void land(Player player, Location destination, int attempt) {
+        if (!isStillPlaying(player)) {
+            inFlight.remove(player.getUniqueId());
+            return;
+        }
+
+        long started = System.nanoTime();
+        player.teleportAsync(destination).whenComplete((arrived, error) -> scheduler.execute(player, () -> {
+            if (!isStillPlaying(player)) {
+                inFlight.remove(player.getUniqueId());
+                return;
+            }
+
+            if (error != null || !arrived) {
+                failedTeleports.incrementAndGet();
+
+                // Try somewhere else; they keep falling meanwhile
+                Location retry = attempt < LANDING_ATTEMPTS ? spawnPicker.apply(player) : null;
+                if (retry != null) {
+                    scheduler.runLater(player, () -> land(player, retry, attempt + 1), RETRY_TICKS);
+                } else {
+                    inFlight.remove(player.getUniqueId());
+                }
+                return;
+            }
+
+            inFlight.remove(player.getUniqueId());
+            restore(player, destination);
+            recordLatency(System.nanoTime() - started);
+        }));
+    }
+
+    /**
+     * Puts a landed player back into the game in one step
+     */
+    private void restore(Player player, Location destination) {
+        boundaryManager.updateLastValidLocation(player, destination);
+
+        // Ensure player has full health and hunger
+        playerStatusManager.updatePlayerStatus(player);
+
+        // Top up snowballs and restart their regeneration
+        snowballManager.restockSnowballs(player);
+        snowballManager.startSnowballRegeneration(player);
+
+        // Add respawn effect
+        effectQueue.submit(player, EffectQueue.Priority.COSMETIC, () -> effectsManager.createRespawnEffect(player));
+    }
+
+    /**
+     * Forgets a player who left mid-respawn
+     */
+    public void handlePlayerQuit(Player player) {
+        inFlight.remove(player.getUniqueId());
+    }
+
+    /**
+     * Forgets every respawn in progress; any still running stop at their next stage
+     */
+    public void cleanup() {
+        inFlight.clear();
+    }
+
+    private boolean isStillPlaying(Player player) {
+        return player.isOnline() && gameActive.getAsBoolean();
+    }
+
+    private void recordLatency(long nanos) {
+        completed.incrementAndGet();
+        totalLatencyNanos.addAndGet(nanos);
+        maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Returns the number of respawns started but not yet landed
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * Returns the number of spawn teleports the server refused
+     */
+    public long getFailedTeleportCount() {
+        return failedTeleports.get();
+    }
+
+    /**
+     * Returns the average time from requesting the spawn teleport to the player being restored
+     */
+    public double getAverageLatencyMillis() {
+        long count = completed.get();
+        return count == 0 ? 0 : totalLatencyNanos.get() / (count * 1_000_000.0);
+    }
+
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos.get() / 1_000_000.0;
+    }
+}
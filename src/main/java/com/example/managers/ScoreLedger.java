@@ -0,0 +1,226 @@
+package com.example.managers;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free score storage shared by every thread that processes hits.
+ * Each player owns an AtomicInteger cell so threads only contend when they
+ * change the same player's score, and every mutation reports which
+ * thresholds it crossed so callers never need a separate check-then-act.
+ */
+public class ScoreLedger {
+    private final ConcurrentHashMap<UUID, AtomicInteger> scores = new ConcurrentHashMap<>();
+    private final Set<UUID> threats = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<UUID> winner = new AtomicReference<>();
+    // Bumped by every change to scores or threats, so readers can tell whether anything moved
+    private final AtomicLong version = new AtomicLong();
+    private volatile int hitsToWin;
+
+    /**
+     * Clears all scores for a new game
+     */
+    public void reset(int hitsToWin) {
+        this.hitsToWin = hitsToWin;
+        scores.clear();
+        threats.clear();
+        winner.set(null);
+        version.incrementAndGet();
+    }
+
+    public int getHitsToWin() {
+        return hitsToWin;
+    }
+
+    /**
+     * Adds a player with a score of zero if they aren't already tracked
+     */
+    public void register(UUID playerId) {
+        if (!scores.containsKey(playerId)) {
+            cell(playerId);
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Sets a player's score outright, for picking a saved game back up
+     */
+    public void restore(UUID playerId, int score) {
+        cell(playerId).set(Math.max(0, score));
+        version.incrementAndGet();
+    }
+
+    /**
+     * Gets a player's current score
+     */
+    public int get(UUID playerId) {
+        AtomicInteger cell = scores.get(playerId);
+        return cell != null ? cell.get() : 0;
+    }
+
+    /**
+     * Adds one point and reports the thresholds crossed by this exact increment
+     */
+    public ScoreChange increment(UUID playerId) {
+        int current = cell(playerId).incrementAndGet();
+        version.incrementAndGet();
+        int target = hitsToWin;
+
+        // Only the increment that lands exactly on the target can claim the win
+        boolean won = current == target && winner.compareAndSet(null, playerId);
+        return new ScoreChange(current - 1, current, target, won);
+    }
+
+    /**
+     * Removes one point, never going below zero
+     */
+    public ScoreChange decrement(UUID playerId) {
+        AtomicInteger cell = cell(playerId);
+        int previous;
+        int current;
+        do {
+            previous = cell.get();
+            current = Math.max(0, previous - 1);
+        } while (previous != current && !cell.compareAndSet(previous, current));
+        if (previous != current) {
+            version.incrementAndGet();
+        }
+        return new ScoreChange(previous, current, hitsToWin, false);
+    }
+
+    /**
+     * Removes one point only if the player is currently one hit from winning.
+     * Returns true if this call performed the decrement, so concurrent hits on
+     * the same threat player only knock them back once.
+     */
+    public boolean decrementIfNearWin(UUID playerId) {
+        AtomicInteger cell = scores.get(playerId);
+        int nearWin = hitsToWin - 1;
+        if (cell != null && nearWin > 0 && cell.compareAndSet(nearWin, nearWin - 1)) {
+            version.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks a player as a threat, returning true only for the call that added them
+     */
+    public boolean markThreat(UUID playerId) {
+        return changed(threats.add(playerId));
+    }
+
+    /**
+     * Unmarks a threat, returning true only for the call that removed them
+     */
+    public boolean unmarkThreat(UUID playerId) {
+        return changed(threats.remove(playerId));
+    }
+
+    public boolean isThreat(UUID playerId) {
+        return threats.contains(playerId);
+    }
+
+    public void clearThreats() {
+        threats.clear();
+        version.incrementAndGet();
+    }
+
+    /**
+     * Takes a copy of the current threat set
+     */
+    public Set<UUID> threatSnapshot() {
+        return new HashSet<>(threats);
+    }
+
+    /**
+     * Returns a number that changes whenever any score or threat changes
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Returns the player who claimed the win, or null if nobody has won yet
+     */
+    public UUID getWinnerId() {
+        return winner.get();
+    }
+
+    /**
+     * Takes a point-in-time copy of all scores
+     */
+    public Map<UUID, Integer> snapshot() {
+        Map<UUID, Integer> copy = new HashMap<>();
+        for (Map.Entry<UUID, AtomicInteger> entry : scores.entrySet()) {
+            copy.put(entry.getKey(), entry.getValue().get());
+        }
+        return copy;
+    }
+
+    private boolean changed(boolean changed) {
+        if (changed) {
+            version.incrementAndGet();
+        }
+        return changed;
+    }
+
+    private AtomicInteger cell(UUID playerId) {
+        // Plain get first so the common case never locks a map bin
+        AtomicInteger cell = scores.get(playerId);
+        return cell != null ? cell : scores.computeIfAbsent(playerId, id -> new AtomicInteger());
+    }
+
+    /**
+     * Result of a single score mutation
+     */
+    public static final class ScoreChange {
+        private final int previous;
+        private final int current;
+        private final int hitsToWin;
+        private final boolean winningHit;
+
+        ScoreChange(int previous, int current, int hitsToWin, boolean winningHit) {
+            this.previous = previous;
+            this.current = current;
+            this.hitsToWin = hitsToWin;
+            this.winningHit = winningHit;
+        }
+
+        public int getPrevious() {
+            return previous;
+        }
+
+        public int getCurrent() {
+            return current;
+        }
+
+        /**
+         * True if this change put the player exactly one hit from winning
+         */
+        public boolean enteredNearWin() {
+            return current == hitsToWin - 1 && previous != hitsToWin - 1;
+        }
+
+        /**
+         * True if this change moved the player off the one-hit-from-winning score
+         */
+        public boolean leftNearWin() {
+            return previous == hitsToWin - 1 && current != hitsToWin - 1;
+        }
+
+        /**
+         * True for exactly one change per game: the one that claimed the win
+         */
+        public boolean isWinningHit() {
+            return winningHit;
+        }
+    }
+}
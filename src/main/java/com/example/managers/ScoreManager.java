@@ -1,5 +1,10 @@
 package com.example.managers;
 
+import com.example.util.MessageTemplate;
+import com.example.util.TaskScheduler;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
@@ -7,37 +12,67 @@ import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scoreboard.*;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Manages player scores and the scoreboard display
  */
 public class ScoreManager {
+    private static final int IDLE_SCOREBOARDS = 2; // Back-to-back games only ever need one spare
+    
+    // Lines of the /score summary
+    private static final Component SCORES_HEADER = Component.text("=== Snow Ball Fight Scores ===", NamedTextColor.GOLD);
+    private static final Component SCORES_SEPARATOR = Component.text("---------------", NamedTextColor.GRAY);
+    private static final Component SCORES_FOOTER = Component.text("===========================", NamedTextColor.GOLD);
+    private static final MessageTemplate TARGET_LINE = MessageTemplate.builder()
+        .text("Target: ", NamedTextColor.YELLOW).argument(NamedTextColor.WHITE).text(" hits", NamedTextColor.WHITE).build();
+    private static final MessageTemplate BOUNDARY_LINE = MessageTemplate.builder()
+        .text("Boundary: ", NamedTextColor.YELLOW).argument(NamedTextColor.WHITE).text(" blocks", NamedTextColor.WHITE).build();
+    private static final MessageTemplate SCORE_LINE = MessageTemplate.builder()
+        .argument(NamedTextColor.AQUA).text(": ", NamedTextColor.AQUA)
+        .argument(NamedTextColor.WHITE).text(" points", NamedTextColor.WHITE).build();
+    private static final MessageTemplate THREAT_SCORE_LINE = MessageTemplate.builder()
+        .text("⚠ ", NamedTextColor.RED).argument(NamedTextColor.AQUA).text(": ", NamedTextColor.AQUA)
+        .argument(NamedTextColor.WHITE).text(" points", NamedTextColor.WHITE).build();
+    
     private final JavaPlugin plugin;
-    private final Map<UUID, Integer> playerScores = new HashMap<>();
-    private final Set<UUID> threatPlayers = new HashSet<>();
-    private final Map<UUID, String> playerDisplayNames = new HashMap<>(); // Track display names
+    private final TaskScheduler scheduler;
+    private final EffectQueue effectQueue;
+    private final QualityController qualityController;
+    private final ArenaBroadcaster broadcaster;
+    // Scores are written from whichever region thread processed the hit
+    private final ScoreLedger ledger = new ScoreLedger();
+    private final Map<UUID, String> playerDisplayNames = new ConcurrentHashMap<>(); // Track display names
+    private final AtomicBoolean scoreboardUpdatePending = new AtomicBoolean(false);
+    private final ScoreboardPool scoreboardPool = new ScoreboardPool(IDLE_SCOREBOARDS);
+    private volatile int lastRebuildTick;
     private Scoreboard scoreboard;
     private Objective objective;
     private Team hideNametagTeam;
-    private int hitsToWin;
-    private double boundaryDistance;
+    private Team threatTeam;
+    private volatile double boundaryDistance;
     
-    public ScoreManager(JavaPlugin plugin) {
+    public ScoreManager(JavaPlugin plugin, TaskScheduler scheduler, EffectQueue effectQueue,
+                        QualityController qualityController, ArenaBroadcaster broadcaster) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.effectQueue = effectQueue;
+        this.qualityController = qualityController;
+        this.broadcaster = broadcaster;
     }
     
     /**
      * Initializes the scoreboard for a new game
      */
     public void initializeScoreboard(int hitsToWin, double boundaryDistance) {
-        this.hitsToWin = hitsToWin;
         this.boundaryDistance = boundaryDistance;
-        playerScores.clear();
-        threatPlayers.clear();
+        ledger.reset(hitsToWin);
         playerDisplayNames.clear(); // Clear display names
         
-        ScoreboardManager manager = Bukkit.getScoreboardManager();
-        scoreboard = manager.getNewScoreboard();
+        // Reuse a scoreboard from an earlier game rather than creating one every time
+        scoreboardPool.release(scoreboard);
+        scoreboard = scoreboardPool.acquire();
         
         // Create objective for the sidebar - Using empty string as criteria for updated versions
         try {
@@ -60,6 +95,17 @@ public class ScoreManager {
         hideNametagTeam.setNameTagVisibility(NameTagVisibility.NEVER); // Hide nametags completely
         hideNametagTeam.setCanSeeFriendlyInvisibles(false);
         hideNametagTeam.setOption(Team.Option.COLLISION_RULE, Team.OptionStatus.NEVER); // Prevent player collisions
+        
+        // Threat players move to this team; its colour tints their glow outline red
+        if (scoreboard.getTeam("threats") != null) {
+            scoreboard.getTeam("threats").unregister();
+        }
+        
+        threatTeam = scoreboard.registerNewTeam("threats");
+        threatTeam.setColor(ChatColor.RED);
+        threatTeam.setNameTagVisibility(NameTagVisibility.NEVER); // Same rules as hideNametags
+        threatTeam.setCanSeeFriendlyInvisibles(false);
+        threatTeam.setOption(Team.Option.COLLISION_RULE, Team.OptionStatus.NEVER);
     }
     
     /**
@@ -80,8 +126,14 @@ public class ScoreManager {
      * Registers a player in the game
      */
     public void registerPlayer(Player player) {
-        playerScores.putIfAbsent(player.getUniqueId(), 0);
-        hideNametagTeam.addEntry(player.getName());
+        ledger.register(player.getUniqueId());
+        
+        // Scoreboard teams are only safe to touch from the global thread
+        scheduler.executeGlobal(() -> {
+            if (hideNametagTeam != null) {
+                hideNametagTeam.addEntry(player.getName());
+            }
+        });
         updateScoreboard();
     }
     
@@ -89,41 +141,104 @@ public class ScoreManager {
      * Handles player quit - clean up resources
      */
     public void handlePlayerQuit(Player player) {
-        hideNametagTeam.removeEntry(player.getName());
-        threatPlayers.remove(player.getUniqueId());
+        ledger.unmarkThreat(player.getUniqueId());
         
         // Remove player's display name from scoreboard
         String oldDisplayName = playerDisplayNames.remove(player.getUniqueId());
-        if (oldDisplayName != null && scoreboard != null) {
-            scoreboard.resetScores(oldDisplayName);
+        scheduler.executeGlobal(() -> {
+            if (hideNametagTeam != null) {
+                hideNametagTeam.removeEntry(player.getName());
+            }
+            if (threatTeam != null) {
+                threatTeam.removeEntry(player.getName());
+            }
+            if (oldDisplayName != null && scoreboard != null) {
+                scoreboard.resetScores(oldDisplayName);
+            }
+        });
+    }
+    
+    /**
+     * Mark a player as a threat (one hit from winning).
+     * Returns true only for the call that actually marked them.
+     */
+    public boolean markThreatPlayer(Player player) {
+        boolean marked = ledger.markThreat(player.getUniqueId());
+        if (marked) {
+            updateScoreboard();
         }
+        return marked;
     }
     
     /**
-     * Mark a player as a threat (one hit from winning)
+     * Unmark a player as a threat.
+     * Returns true only for the call that actually unmarked them.
      */
-    public void markThreatPlayer(Player player) {
-        threatPlayers.add(player.getUniqueId());
-        updateScoreboard();
+    public boolean unmarkThreatPlayer(Player player) {
+        boolean unmarked = ledger.unmarkThreat(player.getUniqueId());
+        if (unmarked) {
+            updateScoreboard();
+        }
+        return unmarked;
     }
     
     /**
-     * Unmark a player as a threat
+     * Moves a player between the normal team and the red threat team.
+     * An entry can only be on one team, so this is a single membership change.
      */
-    public void unmarkThreatPlayer(Player player) {
-        threatPlayers.remove(player.getUniqueId());
-        updateScoreboard();
+    public void setThreatTeam(Player player, boolean threat) {
+        scheduler.executeGlobal(() -> {
+            Team team = threat ? threatTeam : hideNametagTeam;
+            if (team != null && objective != null) {
+                team.addEntry(player.getName());
+            }
+        });
     }
     
     /**
-     * Updates the scoreboard for all players
+     * Checks if a player is currently marked as a threat
+     */
+    public boolean isThreatPlayer(Player player) {
+        return ledger.isThreat(player.getUniqueId());
+    }
+    
+    /**
+     * Requests a scoreboard rebuild through the deferred effects queue.
+     * Several changes made before the rebuild runs are coalesced into one, and
+     * rebuilds are spaced out further when the server is under load.
      */
     public void updateScoreboard() {
+        if (scoreboardUpdatePending.compareAndSet(false, true)) {
+            Runnable queueRebuild = () -> effectQueue.submit(EffectQueue.Priority.ESSENTIAL, () -> {
+                scoreboardUpdatePending.set(false);
+                lastRebuildTick = Bukkit.getCurrentTick();
+                rebuildScoreboard();
+            });
+            
+            // Wait out the rest of the refresh interval for the current quality level
+            int refreshTicks = qualityController.getLevel().getScoreboardRefreshTicks();
+            long wait = lastRebuildTick + refreshTicks - Bukkit.getCurrentTick();
+            if (wait > 0) {
+                scheduler.runGlobalLater(queueRebuild, wait);
+            } else {
+                queueRebuild.run();
+            }
+        }
+    }
+    
+    /**
+     * Rebuilds the scoreboard for all players
+     */
+    private void rebuildScoreboard() {
+        if (objective == null) {
+            return;
+        }
+        
         // Make sure objective is using the right display slot
         if (objective.getDisplaySlot() != DisplaySlot.SIDEBAR) {
             objective.setDisplaySlot(DisplaySlot.SIDEBAR);
         }
-
+        
         // Clear existing scores to rebuild the scoreboard
         for (String entry : new ArrayList<>(scoreboard.getEntries())) {
             scoreboard.resetScores(entry);
@@ -134,7 +249,7 @@ public class ScoreManager {
         Map<String, Integer> scores = new HashMap<>();
         
         // Add target score line at the top
-        String targetLine = ChatColor.GOLD + "Target: " + ChatColor.WHITE + hitsToWin + " hits";
+        String targetLine = ChatColor.GOLD + "Target: " + ChatColor.WHITE + ledger.getHitsToWin() + " hits";
         entries.add(targetLine);
         scores.put(targetLine, 15);
         
@@ -151,8 +266,8 @@ public class ScoreManager {
         
         // Sort in descending order
         sortedPlayers.sort((p1, p2) -> {
-            int score1 = playerScores.getOrDefault(p1.getUniqueId(), 0);
-            int score2 = playerScores.getOrDefault(p2.getUniqueId(), 0);
+            int score1 = ledger.get(p1.getUniqueId());
+            int score2 = ledger.get(p2.getUniqueId());
             return Integer.compare(score2, score1); // Descending order
         });
         
@@ -163,14 +278,14 @@ public class ScoreManager {
             
             // Create display name based on threat status
             String displayName;
-            if (threatPlayers.contains(playerId)) {
+            if (ledger.isThreat(playerId)) {
                 displayName = ChatColor.RED + "⚠ " + ChatColor.AQUA + player.getName();
             } else {
                 displayName = ChatColor.AQUA + player.getName();
             }
             
             // Create score display
-            String scoreEntry = displayName + ChatColor.WHITE + ": " + playerScores.getOrDefault(playerId, 0);
+            String scoreEntry = displayName + ChatColor.WHITE + ": " + ledger.get(playerId);
             
             entries.add(scoreEntry);
             scores.put(scoreEntry, scorePosition--);
@@ -199,64 +314,107 @@ public class ScoreManager {
     }
     
     /**
-     * Shows current scores in chat - only accessible with command
+     * Shows current scores in chat - only accessible with command.
+     * The summary is built once and sent to everyone in the game as one message.
      */
     public void showScores() {
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            player.sendMessage(ChatColor.GOLD + "=== Snow Ball Fight Scores ===");
-            player.sendMessage(ChatColor.YELLOW + "Target: " + ChatColor.WHITE + hitsToWin + " hits");
-            player.sendMessage(ChatColor.YELLOW + "Boundary: " + ChatColor.WHITE + (int)boundaryDistance + " blocks");
-            player.sendMessage(ChatColor.GRAY + "---------------");
-            
-            for (Map.Entry<UUID, Integer> entry : playerScores.entrySet()) {
-                Player scorePlayer = plugin.getServer().getPlayer(entry.getKey());
-                if (scorePlayer != null) {
-                    // Special formatting for threat players
-                    String prefix = threatPlayers.contains(entry.getKey()) ? 
-                                     ChatColor.RED + "⚠ " : "";
-                    
-                    player.sendMessage(prefix + ChatColor.AQUA + scorePlayer.getName() + ": " + 
-                                       ChatColor.WHITE + entry.getValue() + " points");
-                }
+        List<Component> lines = new ArrayList<>();
+        lines.add(SCORES_HEADER);
+        lines.add(TARGET_LINE.render(ledger.getHitsToWin()));
+        lines.add(BOUNDARY_LINE.render((int) boundaryDistance));
+        lines.add(SCORES_SEPARATOR);
+        
+        for (Map.Entry<UUID, Integer> entry : ledger.snapshot().entrySet()) {
+            Player scorePlayer = plugin.getServer().getPlayer(entry.getKey());
+            if (scorePlayer != null) {
+                // Special formatting for threat players
+                MessageTemplate line = ledger.isThreat(entry.getKey()) ? THREAT_SCORE_LINE : SCORE_LINE;
+                lines.add(line.render(scorePlayer.getName(), entry.getValue()));
             }
-            player.sendMessage(ChatColor.GOLD + "===========================");
         }
+        lines.add(SCORES_FOOTER);
+        
+        broadcaster.send(Component.join(JoinConfiguration.newlines(), lines));
     }
     
     /**
-     * Increments player score
+     * Increments player score and reports which thresholds the hit crossed
      */
-    public void incrementScore(Player player) {
-        int currentScore = playerScores.getOrDefault(player.getUniqueId(), 0);
-        playerScores.put(player.getUniqueId(), currentScore + 1);
+    public ScoreLedger.ScoreChange incrementScore(Player player) {
+        ScoreLedger.ScoreChange change = ledger.increment(player.getUniqueId());
         updateScoreboard();
+        return change;
     }
     
     /**
      * Decrements player score (never below 0)
      */
-    public void decrementScore(Player player) {
-        int currentScore = playerScores.getOrDefault(player.getUniqueId(), 0);
-        // Never go below 0 (prevent underflow)
-        playerScores.put(player.getUniqueId(), Math.max(0, currentScore - 1));
+    public ScoreLedger.ScoreChange decrementScore(Player player) {
+        ScoreLedger.ScoreChange change = ledger.decrement(player.getUniqueId());
         updateScoreboard();
+        return change;
+    }
+    
+    /**
+     * Atomically knocks a player back one point if they are one hit from winning.
+     * Returns true if this call performed the decrement.
+     */
+    public boolean decrementIfNearWin(Player player) {
+        boolean decremented = ledger.decrementIfNearWin(player.getUniqueId());
+        if (decremented) {
+            updateScoreboard();
+        }
+        return decremented;
     }
     
     /**
      * Gets a player's current score
      */
     public int getScore(Player player) {
-        return playerScores.getOrDefault(player.getUniqueId(), 0);
+        return ledger.get(player.getUniqueId());
+    }
+    
+    /**
+     * Puts a saved score back, for resuming a game after a crash
+     */
+    public void restoreScore(UUID playerId, int score) {
+        ledger.restore(playerId, score);
+        updateScoreboard();
+    }
+    
+    /**
+     * Takes a point-in-time copy of every player's score
+     */
+    public Map<UUID, Integer> getScoreSnapshot() {
+        return ledger.snapshot();
+    }
+    
+    /**
+     * Takes a copy of the players currently marked as threats
+     */
+    public Set<UUID> getThreatSnapshot() {
+        return ledger.threatSnapshot();
+    }
+    
+    /**
+     * Returns a number that changes whenever any score or threat changes
+     */
+    public long getStateVersion() {
+        return ledger.getVersion();
     }
     
     /**
      * Gets the player with the highest score
      */
     public Player getWinner() {
-        UUID winnerUUID = null;
-        int highestScore = -1;
+        // Prefer the player who actually claimed the win
+        UUID winnerUUID = ledger.getWinnerId();
+        if (winnerUUID != null) {
+            return plugin.getServer().getPlayer(winnerUUID);
+        }
         
-        for (Map.Entry<UUID, Integer> entry : playerScores.entrySet()) {
+        int highestScore = -1;
+        for (Map.Entry<UUID, Integer> entry : ledger.snapshot().entrySet()) {
             if (entry.getValue() > highestScore) {
                 highestScore = entry.getValue();
                 winnerUUID = entry.getKey();
@@ -271,7 +429,7 @@ public class ScoreManager {
      */
     public int getHighestScore() {
         int highestScore = 0;
-        for (int score : playerScores.values()) {
+        for (int score : ledger.snapshot().values()) {
             if (score > highestScore) {
                 highestScore = score;
             }
@@ -288,20 +446,39 @@ public class ScoreManager {
             if (hideNametagTeam != null) {
                 hideNametagTeam.removeEntry(player.getName());
             }
+            if (threatTeam != null) {
+                threatTeam.removeEntry(player.getName());
+            }
             
-            // Clear the scoreboard
-            player.setScoreboard(Bukkit.getScoreboardManager().getNewScoreboard());
+            // Back to the server's main scoreboard
+            player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
         }
         
-        threatPlayers.clear();
+        ledger.clearThreats();
         playerDisplayNames.clear(); // Clear the display name mapping
+        
+        // Any rebuild or team change still queued becomes a no-op
+        objective = null;
+        hideNametagTeam = null;
+        threatTeam = null;
+        
+        // Nobody is viewing it any more, so it can be wiped for the next game
+        scoreboardPool.release(scoreboard);
+        scoreboard = null;
+    }
+    
+    /**
+     * Returns the pool the game's scoreboards come from
+     */
+    public ScoreboardPool getScoreboardPool() {
+        return scoreboardPool;
     }
     
     /**
      * Returns the number of hits needed to win
      */
     public int getHitsToWin() {
-        return hitsToWin;
+        return ledger.getHitsToWin();
     }
     
     /**
@@ -315,13 +492,13 @@ public class ScoreManager {
      * Checks if a player has won
      */
     public boolean hasPlayerWon(Player player) {
-        return getScore(player) >= hitsToWin;
+        return getScore(player) >= ledger.getHitsToWin();
     }
     
     /**
      * Checks if a player is one hit away from winning
      */
     public boolean isPlayerNearWin(Player player) {
-        return getScore(player) == hitsToWin - 1;
+        return getScore(player) == ledger.getHitsToWin() - 1;
     }
 }
\ No newline at end of file
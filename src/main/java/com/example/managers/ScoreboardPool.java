@@ -0,0 +1,82 @@
+package com.example.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+
+/**
+ * Hands out plugin scoreboards and takes them back between games.
+ * The server keeps every scoreboard it has ever created until it is garbage collected, so
+ * instead of asking for a new one each game a few are wiped and kept for the next. Only
+ * used from the global region, where scoreboards are safe to touch.
+ */
+public class ScoreboardPool {
+    private final int maxIdle;
+    private final Deque<Scoreboard> idle = new ArrayDeque<>();
+    // Scoreboards created by the pool that are in use or kept idle
+    private volatile int liveCount;
+    private volatile long createdCount;
+
+    public ScoreboardPool(int maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Returns an empty scoreboard, reusing one from an earlier game if there is one
+     */
+    public Scoreboard acquire() {
+        Scoreboard scoreboard = idle.pollFirst();
+        if (scoreboard != null) {
+            return scoreboard;
+        }
+
+        liveCount++;
+        createdCount++;
+        return Bukkit.getScoreboardManager().getNewScoreboard();
+    }
+
+    /**
+     * Wipes a scoreboard and keeps it for the next game; nobody should still be viewing it
+     */
+    public void release(Scoreboard scoreboard) {
+        if (scoreboard == null) {
+            return;
+        }
+
+        for (Objective objective : new ArrayList<>(scoreboard.getObjectives())) {
+            objective.unregister();
+        }
+        for (Team team : new ArrayList<>(scoreboard.getTeams())) {
+            team.unregister();
+        }
+        for (String entry : new ArrayList<>(scoreboard.getEntries())) {
+            scoreboard.resetScores(entry);
+        }
+
+        if (idle.size() < maxIdle) {
+            idle.addFirst(scoreboard);
+        } else {
+            // Let the server forget it
+            liveCount--;
+        }
+    }
+
+    /**
+     * Returns how many scoreboards the pool has created that are still in use or kept idle
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /**
+     * Returns how many scoreboards the pool has created since startup
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.managers;
+
+import com.example.util.IntObjectMap;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+/**
+ * Routes Bukkit events to the game session that owns the player or projectile.
+ * Lookups are keyed by entity id so events from non-participants exit after a
+ * single primitive lookup, and each event goes straight to its own arena.
+ * Events can arrive on several region threads at once, so every access is
+ * guarded by the router's monitor; the critical sections are a single probe.
+ */
+public class SessionRouter {
+    private final IntObjectMap<GameManager> playerSessions = new IntObjectMap<>(64);
+    private final IntObjectMap<GameManager> projectileSessions = new IntObjectMap<>(256);
+
+    /**
+     * Binds a participant to a session
+     */
+    public synchronized void bindPlayer(Player player, GameManager session) {
+        playerSessions.put(player.getEntityId(), session);
+    }
+
+    /**
+     * Removes a participant from whatever session they were in
+     */
+    public synchronized GameManager unbindPlayer(Player player) {
+        return playerSessions.remove(player.getEntityId());
+    }
+
+    /**
+     * Gets the session a player entity belongs to, or null for non-participants
+     */
+    public synchronized GameManager getPlayerSession(int entityId) {
+        return playerSessions.get(entityId);
+    }
+
+    /**
+     * Binds an in-flight projectile to the session of the player who threw it
+     */
+    public synchronized void bindProjectile(Entity projectile, GameManager session) {
+        projectileSessions.put(projectile.getEntityId(), session);
+    }
+
+    /**
+     * Removes and returns the session a projectile belonged to, or null if untracked
+     */
+    public synchronized GameManager takeProjectile(int entityId) {
+        return projectileSessions.remove(entityId);
+    }
+
+    /**
+     * Drops every player and projectile binding for a session that has ended
+     */
+    public synchronized void unbindSession(GameManager session) {
+        playerSessions.removeValue(session);
+        projectileSessions.removeValue(session);
+    }
+
+    /**
+     * Returns the number of players currently routed to a session
+     */
+    public synchronized int getBoundPlayerCount() {
+        return playerSessions.size();
+    }
+
+    /**
+     * Returns the number of projectiles currently in flight for any session
+     */
+    public synchronized int getTrackedProjectileCount() {
+        return projectileSessions.size();
+    }
+}
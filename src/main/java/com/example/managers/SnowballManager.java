@@ -1,5 +1,7 @@
 package com.example.managers;
 
+import com.example.util.TaskHandle;
+import com.example.util.TaskScheduler;
 import org.bukkit.ChatColor;
 import org.bukkit.Color;
 import org.bukkit.Material;
@@ -11,24 +13,38 @@ import org.bukkit.event.entity.ProjectileLaunchEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages snowballs, regeneration, and related effects
  */
 public class SnowballManager {
+    private static final int SNOWBALL_STACK_SIZE = 16;
+    
     private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
     private final ScoreManager scoreManager;
-    private final Set<UUID> snowballTrailActive = new HashSet<>();
-    private final Map<UUID, BukkitTask> snowballRegenTasks = new HashMap<>();
-    private boolean gameActive = false;
+    private final QualityController qualityController;
+    private final Set<UUID> snowballTrailActive = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, TaskHandle> snowballRegenTasks = new ConcurrentHashMap<>();
+    private volatile boolean gameActive = false;
+    // Built once and copied into inventories
+    private final ItemStack battleSnowballs;
     
-    public SnowballManager(JavaPlugin plugin, ScoreManager scoreManager) {
+    public SnowballManager(JavaPlugin plugin, TaskScheduler scheduler, ScoreManager scoreManager,
+                           QualityController qualityController) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
         this.scoreManager = scoreManager;
+        this.qualityController = qualityController;
+        
+        // Create a stack of snowballs with custom name
+        battleSnowballs = new ItemStack(Material.SNOWBALL, SNOWBALL_STACK_SIZE);
+        ItemMeta meta = battleSnowballs.getItemMeta();
+        meta.setDisplayName(ChatColor.AQUA + "Battle Snowball");
+        battleSnowballs.setItemMeta(meta);
     }
     
     /**
@@ -39,7 +55,7 @@ public class SnowballManager {
         snowballTrailActive.clear();
         
         // Cancel any existing regen tasks
-        for (BukkitTask task : snowballRegenTasks.values()) {
+        for (TaskHandle task : snowballRegenTasks.values()) {
             if (task != null) {
                 task.cancel();
             }
@@ -54,7 +70,7 @@ public class SnowballManager {
         gameActive = false;
         
         // Cancel all snowball regen tasks
-        for (BukkitTask task : snowballRegenTasks.values()) {
+        for (TaskHandle task : snowballRegenTasks.values()) {
             if (task != null) {
                 task.cancel();
             }
@@ -73,7 +89,7 @@ public class SnowballManager {
      * Handle player quitting
      */
     public void handlePlayerQuit(Player player) {
-        BukkitTask regenTask = snowballRegenTasks.remove(player.getUniqueId());
+        TaskHandle regenTask = snowballRegenTasks.remove(player.getUniqueId());
         if (regenTask != null) {
             regenTask.cancel();
         }
@@ -87,14 +103,19 @@ public class SnowballManager {
         // Clear inventory first
         player.getInventory().clear();
         
-        // Create a stack of snowballs with custom name
-        ItemStack snowballs = new ItemStack(Material.SNOWBALL, 16);
-        ItemMeta meta = snowballs.getItemMeta();
-        meta.setDisplayName(ChatColor.AQUA + "Battle Snowball");
-        snowballs.setItemMeta(meta);
-        
         // Give snowballs in one slot only
-        player.getInventory().setItem(0, snowballs);
+        player.getInventory().setItem(0, battleSnowballs.clone());
+    }
+    
+    /**
+     * Tops the snowball slot back up to a full stack without touching the rest of the inventory
+     */
+    public void restockSnowballs(Player player) {
+        ItemStack current = player.getInventory().getItem(0);
+        if (current != null && current.isSimilar(battleSnowballs) && current.getAmount() >= SNOWBALL_STACK_SIZE) {
+            return;
+        }
+        player.getInventory().setItem(0, battleSnowballs.clone());
     }
     
     /**
@@ -114,57 +135,53 @@ public class SnowballManager {
      */
     public void startSnowballRegeneration(Player player) {
         // Cancel existing regen task if exists
-        BukkitTask existingTask = snowballRegenTasks.remove(player.getUniqueId());
+        TaskHandle existingTask = snowballRegenTasks.remove(player.getUniqueId());
         if (existingTask != null) {
             existingTask.cancel();
         }
         
-        // Start a new regeneration task
-        BukkitTask task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!gameActive || !player.isOnline()) {
-                    cancel();
-                    snowballRegenTasks.remove(player.getUniqueId());
-                    return;
+        // Start a new regeneration task on the player's own region (20 ticks = 1 second)
+        TaskHandle task = scheduler.runTimer(player, regenTask -> {
+            if (!gameActive || !player.isOnline()) {
+                regenTask.cancel();
+                snowballRegenTasks.remove(player.getUniqueId());
+                return;
+            }
+            
+            // Count current snowballs
+            int currentSnowballs = 0;
+            for (ItemStack item : player.getInventory().getContents()) {
+                if (item != null && item.getType() == Material.SNOWBALL) {
+                    currentSnowballs += item.getAmount();
                 }
+            }
+            
+            // If player has less than 16 snowballs, give them one more
+            if (currentSnowballs < SNOWBALL_STACK_SIZE) {
+                ItemStack snowballSlot = player.getInventory().getItem(0);
                 
-                // Count current snowballs
-                int currentSnowballs = 0;
-                for (ItemStack item : player.getInventory().getContents()) {
-                    if (item != null && item.getType() == Material.SNOWBALL) {
-                        currentSnowballs += item.getAmount();
-                    }
+                if (snowballSlot != null && snowballSlot.getType() == Material.SNOWBALL) {
+                    // Add to existing stack
+                    snowballSlot.setAmount(snowballSlot.getAmount() + 1);
+                } else {
+                    // Create a new stack
+                    ItemStack newSnowball = battleSnowballs.clone();
+                    newSnowball.setAmount(1);
+                    
+                    player.getInventory().setItem(0, newSnowball);
                 }
                 
-                // If player has less than 16 snowballs, give them one more
-                if (currentSnowballs < 16) {
-                    ItemStack snowballSlot = player.getInventory().getItem(0);
-                    
-                    if (snowballSlot != null && snowballSlot.getType() == Material.SNOWBALL) {
-                        // Add to existing stack
-                        snowballSlot.setAmount(snowballSlot.getAmount() + 1);
-                    } else {
-                        // Create a new stack
-                        ItemStack newSnowball = new ItemStack(Material.SNOWBALL, 1);
-                        ItemMeta meta = newSnowball.getItemMeta();
-                        meta.setDisplayName(ChatColor.AQUA + "Battle Snowball");
-                        newSnowball.setItemMeta(meta);
-                        
-                        player.getInventory().setItem(0, newSnowball);
-                    }
-                    
-                    // Play quiet pickup sound when regenerating
-                    if (currentSnowballs == 0) {
-                        // First snowball after empty - make more noticeable
-                        player.playSound(player.getLocation(), Sound.ENTITY_ITEM_PICKUP, 0.5f, 1.2f);
-                    } else if (currentSnowballs % 4 == 0) {
-                        // Play sound every 4 snowballs
-                        player.playSound(player.getLocation(), Sound.BLOCK_SNOW_STEP, 0.3f, 1.5f);
-                    }
+                // Play quiet pickup sound when regenerating
+                int soundInterval = qualityController.getLevel().getRegenSoundInterval();
+                if (currentSnowballs == 0) {
+                    // First snowball after empty - make more noticeable
+                    player.playSound(player.getLocation(), Sound.ENTITY_ITEM_PICKUP, 0.5f, 1.2f);
+                } else if (soundInterval > 0 && currentSnowballs % soundInterval == 0) {
+                    // Play sound every few snowballs (every 4 at full quality)
+                    player.playSound(player.getLocation(), Sound.BLOCK_SNOW_STEP, 0.3f, 1.5f);
                 }
             }
-        }.runTaskTimer(plugin, 20L, 20L); // 20 ticks = 1 second
+        }, 20L, 20L);
         
         snowballRegenTasks.put(player.getUniqueId(), task);
     }
@@ -182,43 +199,42 @@ public class SnowballManager {
             Player shooter = (Player) snowball.getShooter();
             
             if (snowballTrailActive.contains(shooter.getUniqueId())) {
-                // Create snowball trail
-                new BukkitRunnable() {
-                    int ticks = 0;
+                // Create snowball trail, ticked on the snowball's own region
+                final int[] ticks = {0};
+                scheduler.runTimer(snowball, trailTask -> {
+                    if (snowball.isDead() || !snowball.isValid() || ticks[0] > 100) {
+                        trailTask.cancel();
+                        return;
+                    }
                     
-                    @Override
-                    public void run() {
-                        if (snowball.isDead() || !snowball.isValid() || ticks > 100) {
-                            cancel();
-                            return;
-                        }
-                        
-                        // Determine particle color based on player score
-                        int score = scoreManager.getScore(shooter);
-                        Color color;
-                        
-                        if (score >= scoreManager.getHitsToWin() - 1) {
-                            // Near victory - gold
-                            color = Color.fromRGB(255, 215, 0);
-                        } else if (score >= scoreManager.getHitsToWin() - 3) {
-                            // Getting close - orange
-                            color = Color.fromRGB(255, 165, 0);
-                        } else {
-                            // Regular - white/blue
-                            color = Color.fromRGB(173, 216, 230);
-                        }
-                        
-                        // Spawn particle trail
-                        snowball.getWorld().spawnParticle(
-                            Particle.REDSTONE, 
-                            snowball.getLocation(), 
-                            3, 0.1, 0.1, 0.1, 0,
-                            new Particle.DustOptions(color, 1)
-                        );
-                        
-                        ticks++;
+                    // Thin the trail out when the server is under load
+                    if (ticks[0]++ % qualityController.getLevel().getParticleStride() != 0) {
+                        return;
                     }
-                }.runTaskTimer(plugin, 1L, 1L);
+                    
+                    // Determine particle color based on player score
+                    int score = scoreManager.getScore(shooter);
+                    Color color;
+                    
+                    if (score >= scoreManager.getHitsToWin() - 1) {
+                        // Near victory - gold
+                        color = Color.fromRGB(255, 215, 0);
+                    } else if (score >= scoreManager.getHitsToWin() - 3) {
+                        // Getting close - orange
+                        color = Color.fromRGB(255, 165, 0);
+                    } else {
+                        // Regular - white/blue
+                        color = Color.fromRGB(173, 216, 230);
+                    }
+                    
+                    // Spawn particle trail
+                    snowball.getWorld().spawnParticle(
+                        Particle.REDSTONE, 
+                        snowball.getLocation(), 
+                        3, 0.1, 0.1, 0.1, 0,
+                        new Particle.DustOptions(color, 1)
+                    );
+                }, 1L, 1L);
             }
         }
     }
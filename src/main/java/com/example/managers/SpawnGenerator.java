@@ -0,0 +1,295 @@
+package com.example.managers;
+
+import com.example.util.LocationUtil;
+import com.example.util.PoissonDiskSampler;
+import com.example.util.SpawnSafety;
+import com.example.util.TaskScheduler;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Generates spawn points over a circular area of terrain.
+ * Chunks are loaded asynchronously and snapshotted on the thread that owns them, each
+ * snapshot is scanned for safe standable columns on the async pool, and once every chunk
+ * is in the candidates are thinned out with Poisson-disk sampling and added to the arena
+ * in a single batch on the global region. If a game started while the terrain was being
+ * scanned, the spawns are held back and added when it ends.
+ */
+public class SpawnGenerator {
+    public static final int MAX_RADIUS = 128;
+    private static final double MIN_SPACING = 3.0; // Never put two spawns closer than this
+
+    private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    private final LocationUtil locationUtil;
+    private final BooleanSupplier gameActive;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public SpawnGenerator(JavaPlugin plugin, TaskScheduler scheduler, LocationUtil locationUtil,
+                          BooleanSupplier gameActive) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.locationUtil = locationUtil;
+        this.gameActive = gameActive;
+    }
+
+    /**
+     * Starts generating up to count spawn points within radius blocks of the centre.
+     * Returns false without doing anything if a generation is already running.
+     *
+     * @param onGenerated told on the global region how many spawns were added
+     * @param onSaved told whether the new spawns were written to disk
+     */
+    public boolean generate(Location center, int radius, int count,
+                            Consumer<Result> onGenerated, Consumer<Boolean> onSaved) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        World world = center.getWorld();
+        Job job = new Job(world, center.getX(), center.getZ(), radius, count, onGenerated, onSaved);
+
+        // Only chunks that overlap the circle
+        int minChunkX = (int) Math.floor(center.getX() - radius) >> 4;
+        int maxChunkX = (int) Math.floor(center.getX() + radius) >> 4;
+        int minChunkZ = (int) Math.floor(center.getZ() - radius) >> 4;
+        int maxChunkZ = (int) Math.floor(center.getZ() + radius) >> 4;
+        List<int[]> chunks = new ArrayList<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if (job.overlapsChunk(chunkX, chunkZ)) {
+                    chunks.add(new int[]{chunkX, chunkZ});
+                }
+            }
+        }
+
+        job.remaining.set(chunks.size());
+        job.chunkCount = chunks.size();
+        for (int[] chunk : chunks) {
+            captureChunk(job, chunk[0], chunk[1]);
+        }
+        return true;
+    }
+
+    /**
+     * Loads a chunk without blocking, snapshots it on its own region, then scans it off-thread
+     */
+    private void captureChunk(Job job, int chunkX, int chunkZ) {
+        Location chunkCenter = new Location(job.world, (chunkX << 4) + 8, 0, (chunkZ << 4) + 8);
+        job.world.getChunkAtAsync(chunkX, chunkZ).whenComplete((chunk, error) -> {
+            if (error != null || chunk == null) {
+                chunkDone(job);
+                return;
+            }
+            scheduler.execute(chunkCenter, () -> {
+                ChunkSnapshot snapshot = chunk.getChunkSnapshot(true, false, false);
+                scheduler.runAsync(() -> {
+                    try {
+                        job.candidates.add(scanChunk(job, snapshot));
+                    } finally {
+                        chunkDone(job);
+                    }
+                });
+            });
+        });
+    }
+
+    private void chunkDone(Job job) {
+        if (job.remaining.decrementAndGet() == 0) {
+            try {
+                finish(job);
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.SEVERE, "Spawn generation failed", e);
+                running.set(false);
+            }
+        }
+    }
+
+    /**
+     * Returns packed x,y,z positions of every safe column in the snapshot inside the circle
+     */
+    private static double[] scanChunk(Job job, ChunkSnapshot snapshot) {
+        int baseX = snapshot.getX() << 4;
+        int baseZ = snapshot.getZ() << 4;
+        double radiusSquared = (double) job.radius * job.radius;
+        double[] found = new double[16 * 16 * 3];
+        int size = 0;
+
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                double blockX = baseX + x + 0.5;
+                double blockZ = baseZ + z + 0.5;
+                double dx = blockX - job.centerX;
+                double dz = blockZ - job.centerZ;
+                if (dx * dx + dz * dz > radiusSquared) {
+                    continue;
+                }
+
+                int floorY = snapshot.getHighestBlockYAt(x, z);
+                if (floorY < job.minHeight || floorY + 2 >= job.maxHeight) {
+                    continue;
+                }
+                if (!SpawnSafety.isSafe(snapshot, x, floorY, z)) {
+                    continue;
+                }
+
+                found[size++] = blockX;
+                found[size++] = floorY + 1;
+                found[size++] = blockZ;
+            }
+        }
+        return Arrays.copyOf(found, size);
+    }
+
+    /**
+     * Picks well-spread spawns from every candidate, then hands them to the global region
+     */
+    private void finish(Job job) {
+        int total = 0;
+        for (double[] chunkCandidates : job.candidates) {
+            total += chunkCandidates.length / 3;
+        }
+
+        double[] xs = new double[total];
+        double[] ys = new double[total];
+        double[] zs = new double[total];
+        int next = 0;
+        for (double[] chunkCandidates : job.candidates) {
+            for (int i = 0; i < chunkCandidates.length; i += 3) {
+                xs[next] = chunkCandidates[i];
+                ys[next] = chunkCandidates[i + 1];
+                zs[next] = chunkCandidates[i + 2];
+                next++;
+            }
+        }
+
+        double area = Math.PI * job.radius * job.radius;
+        int[] picked = PoissonDiskSampler.sample(xs, zs, job.count, area, MIN_SPACING, ThreadLocalRandom.current());
+        int candidateCount = total;
+
+        scheduler.executeGlobal(() -> {
+            List<Location> spawns = new ArrayList<>(picked.length);
+            for (int index : picked) {
+                // Face the middle of the area
+                float yaw = (float) Math.toDegrees(Math.atan2(-(job.centerX - xs[index]), job.centerZ - zs[index]));
+                spawns.add(new Location(job.world, xs[index], ys[index], zs[index], yaw, 0));
+            }
+            // A game may have started during the scan; its spawn list can't change until it ends
+            boolean deferred = !spawns.isEmpty() && gameActive.getAsBoolean();
+            if (deferred) {
+                locationUtil.stageSpawnPoints(spawns, job.onSaved);
+            } else if (!spawns.isEmpty()) {
+                locationUtil.addSpawnPoints(spawns, job.onSaved);
+            }
+
+            running.set(false);
+            long elapsedMillis = (System.nanoTime() - job.startNanos) / 1_000_000;
+            job.onGenerated.accept(new Result(spawns.size(), candidateCount, job.chunkCount, elapsedMillis,
+                                              deferred));
+        });
+    }
+
+    /**
+     * Returns true while a generation is in progress
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Outcome of a generation
+     */
+    public static final class Result {
+        private final int spawnCount;
+        private final int candidateCount;
+        private final int chunkCount;
+        private final long elapsedMillis;
+        private final boolean deferred;
+
+        private Result(int spawnCount, int candidateCount, int chunkCount, long elapsedMillis, boolean deferred) {
+            this.spawnCount = spawnCount;
+            this.candidateCount = candidateCount;
+            this.chunkCount = chunkCount;
+            this.elapsedMillis = elapsedMillis;
+            this.deferred = deferred;
+        }
+
+        public int getSpawnCount() {
+            return spawnCount;
+        }
+
+        public int getCandidateCount() {
+            return candidateCount;
+        }
+
+        public int getChunkCount() {
+            return chunkCount;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * Returns true if a game was running, so the spawns will only be added once it ends
+         */
+        public boolean isDeferred() {
+            return deferred;
+        }
+    }
+
+    /**
+     * State shared by every chunk of one generation
+     */
+    private static final class Job {
+        private final World world;
+        private final double centerX;
+        private final double centerZ;
+        private final int radius;
+        private final int count;
+        private final int minHeight;
+        private final int maxHeight;
+        private final Consumer<Result> onGenerated;
+        private final Consumer<Boolean> onSaved;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger remaining = new AtomicInteger();
+        private final Queue<double[]> candidates = new ConcurrentLinkedQueue<>();
+        private int chunkCount;
+
+        private Job(World world, double centerX, double centerZ, int radius, int count,
+                    Consumer<Result> onGenerated, Consumer<Boolean> onSaved) {
+            this.world = world;
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+            this.radius = radius;
+            this.count = count;
+            this.minHeight = world.getMinHeight();
+            this.maxHeight = world.getMaxHeight();
+            this.onGenerated = onGenerated;
+            this.onSaved = onSaved;
+        }
+
+        private boolean overlapsChunk(int chunkX, int chunkZ) {
+            // Distance from the centre to the nearest point of the chunk
+            double nearestX = Math.max(chunkX << 4, Math.min(centerX, (chunkX << 4) + 16));
+            double nearestZ = Math.max(chunkZ << 4, Math.min(centerZ, (chunkZ << 4) + 16));
+            double dx = nearestX - centerX;
+            double dz = nearestZ - centerZ;
+            return dx * dx + dz * dz <= (double) radius * radius;
+        }
+    }
+}
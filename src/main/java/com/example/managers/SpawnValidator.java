@@ -0,0 +1,269 @@
+package com.example.managers;
+
+import com.example.util.LocationUtil;
+import com.example.util.SpawnSafety;
+import com.example.util.TaskScheduler;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks which spawn points are currently safe to teleport to.
+ * Spawns are checked against chunk snapshots on the async pool: feet and head must be
+ * clear, the floor solid and nothing harmful like lava where the player stands. The results are
+ * kept in a bitmap indexed like LocationUtil's spawn list, so the spawn picker can ask
+ * about any spawn in constant time. Every spawn is checked when a game starts, and chunks
+ * holding spawns are checked again shortly after blocks in them change.
+ */
+public class SpawnValidator {
+    private static final long RECHECK_INTERVAL_TICKS = 20L; // Batch block changes for up to a second
+
+    private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    private final LocationUtil locationUtil;
+    // Chunks with spawns in them whose blocks changed since they were last checked
+    private final Set<Long> dirtyChunks = ConcurrentHashMap.newKeySet();
+    private volatile Bitmap bitmap;
+
+    public SpawnValidator(JavaPlugin plugin, TaskScheduler scheduler, LocationUtil locationUtil) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.locationUtil = locationUtil;
+        startRecheckTask();
+    }
+
+    /**
+     * Checks every spawn point from scratch, logging how many turned out unsafe.
+     * onDone runs once every spawn has been checked, on whichever thread finished last.
+     */
+    public void validateAll(Runnable onDone) {
+        List<Location> spawns = locationUtil.getSpawnPoints();
+        World world = locationUtil.getGeometry().getWorld();
+        if (spawns.isEmpty() || world == null) {
+            onDone.run();
+            return;
+        }
+
+        Bitmap current = new Bitmap(spawns, world);
+        bitmap = current;
+        dirtyChunks.clear();
+
+        // Every spawn is in another or unloaded world, so there is nothing to check
+        if (current.chunks.isEmpty()) {
+            onDone.run();
+            return;
+        }
+
+        AtomicInteger remaining = new AtomicInteger(current.chunks.size());
+        for (Map.Entry<Long, int[]> chunk : current.chunks.entrySet()) {
+            checkChunk(current, chunk.getKey(), chunk.getValue(), () -> {
+                if (remaining.decrementAndGet() == 0) {
+                    int unsafe = current.countUnsafe();
+                    if (unsafe > 0) {
+                        plugin.getLogger().warning(unsafe + " of " + current.size +
+                                                   " spawn points are unsafe and will be skipped");
+                    }
+                    onDone.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns true unless the spawn at this index in LocationUtil's spawn list was found unsafe.
+     * Spawns that haven't been checked yet are treated as safe.
+     */
+    public boolean isSafe(int index) {
+        Bitmap current = bitmap;
+        if (current == null || current.source != locationUtil.getSpawnPoints() || index >= current.size) {
+            return true;
+        }
+        return current.isSafe(index);
+    }
+
+    /**
+     * Returns the number of spawns found unsafe by the latest checks
+     */
+    public int getUnsafeCount() {
+        Bitmap current = bitmap;
+        return current == null ? 0 : current.countUnsafe();
+    }
+
+    /**
+     * Queues the chunk holding a changed block for a recheck if any spawns are in it
+     */
+    public void markChanged(Block block) {
+        Bitmap current = bitmap;
+        if (current == null || !current.world.equals(block.getWorld())) {
+            return;
+        }
+
+        long key = chunkKey(block.getX() >> 4, block.getZ() >> 4);
+        if (current.chunks.containsKey(key)) {
+            dirtyChunks.add(key);
+        }
+    }
+
+    private void startRecheckTask() {
+        scheduler.runGlobalTimer(task -> recheckDirtyChunks(), RECHECK_INTERVAL_TICKS, RECHECK_INTERVAL_TICKS);
+    }
+
+    private void recheckDirtyChunks() {
+        if (dirtyChunks.isEmpty()) {
+            return;
+        }
+
+        // The spawn list was replaced since the last full check, so the chunk map is stale
+        Bitmap current = bitmap;
+        if (current == null || current.source != locationUtil.getSpawnPoints()) {
+            dirtyChunks.clear();
+            return;
+        }
+
+        Iterator<Long> iterator = dirtyChunks.iterator();
+        while (iterator.hasNext()) {
+            long key = iterator.next();
+            iterator.remove();
+            int[] indices = current.chunks.get(key);
+            if (indices != null) {
+                checkChunk(current, key, indices, () -> { });
+            }
+        }
+    }
+
+    /**
+     * Snapshots a chunk on its own region, then checks the spawns in it off-thread
+     */
+    private void checkChunk(Bitmap target, long key, int[] indices, Runnable onDone) {
+        int chunkX = (int) (key >> 32);
+        int chunkZ = (int) key;
+        Location chunkCenter = new Location(target.world, (chunkX << 4) + 8, 0, (chunkZ << 4) + 8);
+
+        target.world.getChunkAtAsync(chunkX, chunkZ).whenComplete((chunk, error) -> {
+            if (error != null || chunk == null) {
+                onDone.run();
+                return;
+            }
+            scheduler.execute(chunkCenter, () -> {
+                ChunkSnapshot snapshot = chunk.getChunkSnapshot(false, false, false);
+                scheduler.runAsync(() -> {
+                    try {
+                        for (int index : indices) {
+                            target.setSafe(index, isSafe(target, snapshot, index));
+                        }
+                    } finally {
+                        onDone.run();
+                    }
+                });
+            });
+        });
+    }
+
+    private static boolean isSafe(Bitmap target, ChunkSnapshot snapshot, int index) {
+        double x = target.positions[index * 3];
+        double y = target.positions[index * 3 + 1];
+        double z = target.positions[index * 3 + 2];
+
+        // The block under the player's feet; a little slack so standing exactly on a block counts as on it
+        int floorY = (int) Math.floor(y - 0.001);
+        if (floorY < target.minHeight || floorY + 2 >= target.maxHeight) {
+            return false;
+        }
+        return SpawnSafety.isSafe(snapshot, (int) Math.floor(x) & 15, floorY, (int) Math.floor(z) & 15);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Safe-spawn bits for one version of the spawn list, with the spawns grouped by chunk
+     */
+    private static final class Bitmap {
+        private final List<Location> source;
+        private final World world;
+        private final int size;
+        private final int minHeight;
+        private final int maxHeight;
+        // Packed x,y,z per spawn, copied so async checks never read the live list
+        private final double[] positions;
+        private final Map<Long, int[]> chunks;
+        private final AtomicLongArray words;
+
+        private Bitmap(List<Location> source, World world) {
+            this.source = source;
+            this.world = world;
+            this.size = source.size();
+            this.minHeight = world.getMinHeight();
+            this.maxHeight = world.getMaxHeight();
+            this.positions = new double[size * 3];
+
+            Map<Long, List<Integer>> grouped = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                Location spawn = source.get(i);
+                positions[i * 3] = spawn.getX();
+                positions[i * 3 + 1] = spawn.getY();
+                positions[i * 3 + 2] = spawn.getZ();
+
+                // Spawns in other or unloaded worlds stay unchecked
+                if (world.equals(spawn.getWorld())) {
+                    long key = chunkKey(spawn.getBlockX() >> 4, spawn.getBlockZ() >> 4);
+                    grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+                }
+            }
+
+            this.chunks = new HashMap<>();
+            for (Map.Entry<Long, List<Integer>> entry : grouped.entrySet()) {
+                List<Integer> indices = entry.getValue();
+                int[] packed = new int[indices.size()];
+                for (int i = 0; i < packed.length; i++) {
+                    packed[i] = indices.get(i);
+                }
+                chunks.put(entry.getKey(), packed);
+            }
+
+            // Everything starts out safe until a check says otherwise
+            this.words = new AtomicLongArray((size + 63) / 64);
+            for (int i = 0; i < words.length(); i++) {
+                words.set(i, -1L);
+            }
+        }
+
+        private boolean isSafe(int index) {
+            return (words.get(index >> 6) & (1L << index)) != 0;
+        }
+
+        private void setSafe(int index, boolean safe) {
+            int word = index >> 6;
+            long bit = 1L << index;
+            long current;
+            long updated;
+            do {
+                current = words.get(word);
+                updated = safe ? current | bit : current & ~bit;
+            } while (current != updated && !words.compareAndSet(word, current, updated));
+        }
+
+        private int countUnsafe() {
+            int safe = 0;
+            for (int i = 0; i < size; i++) {
+                if (isSafe(i)) {
+                    safe++;
+                }
+            }
+            return size - safe;
+        }
+    }
+}
@@ -1,69 +1,77 @@
 package com.example.managers;
 
-import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
+import com.example.util.MessageTemplate;
+import com.example.util.ParticleShape;
+import com.example.util.TaskHandle;
+import com.example.util.TaskScheduler;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Color;
 import org.bukkit.Location;
 import org.bukkit.Particle;
-import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.potion.PotionEffect;
-import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Tracks and highlights players who are close to winning
+ * Tracks and highlights players who are close to winning.
+ * One ticker walks the whole threat set instead of each threat owning a task.
+ * The red glow comes from the threat player's scoreboard team colour.
  */
 public class ThreatTracker {
+    private static final long TICK_INTERVAL = 20L; // Check threats once a second
+    private static final int NOTIFICATION_COOLDOWN_TICKS = 200; // 10 seconds
+    private static final ParticleShape THREAT_RING = ParticleShape.ring(2, 32);
+    private static final Particle.DustOptions THREAT_DUST = new Particle.DustOptions(Color.fromRGB(255, 0, 0), 1.0f);
+    private static final MessageTemplate THREAT_WARNING = MessageTemplate.builder()
+        .text("⚠ ", NamedTextColor.RED).argument(NamedTextColor.YELLOW)
+        .text(" is one hit away from winning!", NamedTextColor.RED).build();
+    private static final Sound THREAT_BELL = Sound.sound(org.bukkit.Sound.BLOCK_NOTE_BLOCK_BELL, Sound.Source.MASTER, 0.5f, 0.8f);
+    
     private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
     private final ScoreManager scoreManager;
     private final EffectsManager effectsManager;
-    private final Map<UUID, BukkitRunnable> threatTrackers = new HashMap<>();
-    private final Map<UUID, Long> lastNotificationTime = new HashMap<>();
-    private static final long NOTIFICATION_COOLDOWN = 10000; // 10 seconds in milliseconds
+    private final QualityController qualityController;
+    private final ArenaBroadcaster broadcaster;
+    private final Map<UUID, Threat> threats = new ConcurrentHashMap<>();
+    private TaskHandle ticker;
     
-    public ThreatTracker(JavaPlugin plugin, ScoreManager scoreManager, EffectsManager effectsManager) {
+    public ThreatTracker(JavaPlugin plugin, TaskScheduler scheduler, ScoreManager scoreManager,
+                         EffectsManager effectsManager, QualityController qualityController,
+                         ArenaBroadcaster broadcaster) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
         this.scoreManager = scoreManager;
         this.effectsManager = effectsManager;
+        this.qualityController = qualityController;
+        this.broadcaster = broadcaster;
     }
     
     /**
      * Clean up when game ends
      */
     public void cleanup() {
-        // Remove glowing effect from all threat players
-        for (UUID playerId : threatTrackers.keySet()) {
-            Player player = plugin.getServer().getPlayer(playerId);
-            if (player != null && player.isOnline()) {
-                removeGlowingEffect(player);
-            }
-        }
+        stopTicker();
         
-        // Cancel all trackers
-        for (BukkitRunnable task : threatTrackers.values()) {
-            if (task != null) {
-                task.cancel();
+        // Remove glowing effect from all threat players
+        for (Threat threat : threats.values()) {
+            Player player = threat.player;
+            if (player.isOnline()) {
+                scheduler.execute(player, () -> removeGlowingEffect(player));
             }
         }
-        threatTrackers.clear();
-        lastNotificationTime.clear();
+        threats.clear();
     }
     
     /**
      * Clean up when a player quits
      */
     public void handlePlayerQuit(Player player) {
-        BukkitRunnable threatTask = threatTrackers.remove(player.getUniqueId());
-        if (threatTask != null) {
-            threatTask.cancel();
-        }
-        lastNotificationTime.remove(player.getUniqueId());
+        threats.remove(player.getUniqueId());
         
         // Remove effects
         removeGlowingEffect(player);
@@ -73,90 +81,94 @@ public class ThreatTracker {
      * Apply glowing effect to player
      */
     private void applyGlowingEffect(Player player) {
-        // Apply glowing effect (indefinite duration but will be removed when tracking ends)
-        player.addPotionEffect(new PotionEffect(
-            PotionEffectType.GLOWING, 
-            Integer.MAX_VALUE, // Effectively permanent until removed
-            0, // Effect level 0 (normal)
-            false, // No particles
-            false, // No icon
-            true  // Show to everyone
-        ));
+        // The outline takes the red colour of the threat team
+        scoreManager.setThreatTeam(player, true);
+        player.setGlowing(true);
     }
     
     /**
      * Remove glowing effect from player
      */
     private void removeGlowingEffect(Player player) {
-        player.removePotionEffect(PotionEffectType.GLOWING);
+        player.setGlowing(false);
+        scoreManager.setThreatTeam(player, false);
     }
     
     /**
      * Start tracking a player who is close to winning
      */
     public void startTracking(Player player) {
+        // Mark player as a threat; a concurrent call that lost the race does nothing
+        if (!scoreManager.markThreatPlayer(player)) {
+            return;
+        }
+        
         // Initial notification only
         sendInitialNotification(player);
         
         // Apply glowing effect to make them stand out visually
-        applyGlowingEffect(player);
+        scheduler.execute(player, () -> applyGlowingEffect(player));
         
-        // Update scoreboard to mark player as a threat
-        scoreManager.markThreatPlayer(player);
-        
-        // Cancel existing tracker if there is one
-        BukkitRunnable existingTracker = threatTrackers.remove(player.getUniqueId());
-        if (existingTracker != null) {
-            existingTracker.cancel();
+        // The first visual indicators go out on the next tick
+        threats.put(player.getUniqueId(), new Threat(player));
+        startTicker();
+    }
+    
+    private synchronized void startTicker() {
+        if (ticker == null) {
+            ticker = scheduler.runGlobalTimer(task -> tick(), TICK_INTERVAL, TICK_INTERVAL);
         }
-        
-        // Create a new threat tracker
-        BukkitRunnable threatTracker = new BukkitRunnable() {
-            @Override
-            public void run() {
+    }
+    
+    private synchronized void stopTicker() {
+        if (ticker != null) {
+            ticker.cancel();
+            ticker = null;
+        }
+    }
+    
+    /**
+     * Counts down every threat's cooldown and shows indicators for those that are due
+     */
+    private void tick() {
+        for (Threat threat : threats.values()) {
+            Player player = threat.player;
+            
+            // Cooldowns are only touched here, on the global thread
+            threat.cooldownTicks -= TICK_INTERVAL;
+            final boolean notify = threat.cooldownTicks <= 0;
+            if (notify) {
+                threat.cooldownTicks = NOTIFICATION_COOLDOWN_TICKS;
+            }
+            
+            scheduler.execute(player, () -> {
                 if (!player.isOnline() || !scoreManager.isPlayerNearWin(player)) {
-                    cancel();
-                    threatTrackers.remove(player.getUniqueId());
-                    lastNotificationTime.remove(player.getUniqueId());
-                    scoreManager.unmarkThreatPlayer(player);
-                    removeGlowingEffect(player);
-                    return;
-                }
-                
-                // Create visual indicators
-                long currentTime = System.currentTimeMillis();
-                Long lastTime = lastNotificationTime.get(player.getUniqueId());
-                if (lastTime == null || (currentTime - lastTime > NOTIFICATION_COOLDOWN)) {
-                    // Create cluster of fireworks around player's location to make them highly visible
-                    effectsManager.createWarningFireworks(player.getLocation());
-                    
-                    // Create a red circle at player's feet
-                    for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 16) {
-                        double x = Math.cos(angle) * 2;
-                        double z = Math.sin(angle) * 2;
-                        Location particleLoc = player.getLocation().clone().add(x, 0.1, z);
-                        
-                        player.getWorld().spawnParticle(
-                            Particle.REDSTONE,
-                            particleLoc,
-                            2, 0.05, 0.05, 0.05, 0,
-                            new Particle.DustOptions(Color.fromRGB(255, 0, 0), 1.0f)
-                        );
-                    }
-                    
-                    // Play sound
-                    player.getWorld().playSound(player.getLocation(), 
-                                               Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 
-                                               0.5f, 1.2f);
-                    
-                    lastNotificationTime.put(player.getUniqueId(), currentTime);
+                    stopTracking(player);
+                } else if (notify) {
+                    showIndicators(player);
                 }
-            }
-        };
+            });
+        }
+    }
+    
+    /**
+     * Shows the fireworks, ring and sound that mark a threat player
+     */
+    private void showIndicators(Player player) {
+        // Create cluster of fireworks around player's location to make them highly visible
+        effectsManager.createWarningFireworks(player.getLocation());
         
-        // Run the task every 5 seconds
-        threatTracker.runTaskTimer(plugin, 0L, 100L);
-        threatTrackers.put(player.getUniqueId(), threatTracker);
+        // Create a red circle at player's feet, with fewer points under load
+        Location feet = player.getLocation();
+        THREAT_RING.stamp(player.getWorld(), Particle.REDSTONE,
+                          feet.getX(), feet.getY() + 0.1, feet.getZ(),
+                          qualityController.getLevel().getParticleStride(),
+                          2, 0.05, 0, THREAT_DUST);
+        
+        // Play sound
+        player.getWorld().playSound(feet, 
+                                   org.bukkit.Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 
+                                   0.5f, 1.2f);
     }
     
     /**
@@ -164,33 +176,22 @@ public class ThreatTracker {
      */
     private void sendInitialNotification(Player threatPlayer) {
         // Play a sound
-        for (Player p : plugin.getServer().getOnlinePlayers()) {
-            p.playSound(p.getLocation(), Sound.BLOCK_NOTE_BLOCK_BELL, 0.5f, 0.8f);
-        }
+        broadcaster.playSound(THREAT_BELL);
         
         // Only send one chat message
-        for (Player p : plugin.getServer().getOnlinePlayers()) {
-            p.sendMessage(ChatColor.RED + "⚠ " + 
-                         ChatColor.YELLOW + threatPlayer.getName() +
-                         ChatColor.RED + " is one hit away from winning!");
-        }
+        broadcaster.send(THREAT_WARNING, threatPlayer.getName());
     }
     
     /**
      * Stop tracking a player
      */
     public void stopTracking(Player player) {
-        // Cancel the tracker
-        BukkitRunnable task = threatTrackers.remove(player.getUniqueId());
-        if (task != null) {
-            task.cancel();
-        }
+        threats.remove(player.getUniqueId());
         
         // Remove glowing effect
-        removeGlowingEffect(player);
+        scheduler.execute(player, () -> removeGlowingEffect(player));
         
         // Clean up other resources
-        lastNotificationTime.remove(player.getUniqueId());
         scoreManager.unmarkThreatPlayer(player);
     }
     
@@ -198,6 +199,18 @@ public class ThreatTracker {
      * Check if a player is being tracked
      */
     public boolean isTracking(Player player) {
-        return threatTrackers.containsKey(player.getUniqueId());
+        return threats.containsKey(player.getUniqueId());
+    }
+    
+    /**
+     * A tracked threat player and the ticks left until their next indicators
+     */
+    private static final class Threat {
+        private final Player player;
+        private int cooldownTicks;
+        
+        private Threat(Player player) {
+            this.player = player;
+        }
     }
 }
\ No newline at end of file
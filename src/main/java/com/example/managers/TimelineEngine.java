@@ -0,0 +1,178 @@
+package com.example.managers;
+
+import com.example.util.TaskHandle;
+import com.example.util.TaskScheduler;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Plays effect timelines from a single driver task.
+ * Every active timeline is advanced once per tick by the same global timer, so a firework
+ * show costs one scheduler entry instead of one per firework. The driver only runs while
+ * something is playing, and everything still playing can be cancelled in one call.
+ * Frames are handed to the region that owns the timeline's location or entity.
+ */
+public class TimelineEngine {
+    private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    // New playbacks are handed over through this queue; the active list is only touched by the driver
+    private final Queue<Playback<?>> pending = new ConcurrentLinkedQueue<>();
+    private final List<Playback<?>> active = new ArrayList<>();
+    private TaskHandle driver;
+    private volatile int activeCount;
+    // Bumped by cancelAll; playbacks started before the bump are dropped by the driver
+    private volatile int generation;
+
+    public TimelineEngine(JavaPlugin plugin, TaskScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Plays a timeline at a location; frames run on the location's region
+     */
+    public TaskHandle play(EffectTimeline<Location> timeline, Location location) {
+        return start(new Playback<>(timeline, location, null, action -> scheduler.execute(location, action)));
+    }
+
+    /**
+     * Plays a timeline on an entity; frames run on the entity's region and stop when it becomes invalid
+     */
+    public <E extends Entity> TaskHandle play(EffectTimeline<? super E> timeline, E entity) {
+        return start(new Playback<>(timeline, entity, entity, action -> scheduler.execute(entity, action)));
+    }
+
+    /**
+     * Plays a timeline whose frames run on the global region
+     */
+    public <T> TaskHandle playGlobal(EffectTimeline<T> timeline, T context) {
+        return start(new Playback<>(timeline, context, null, scheduler::executeGlobal));
+    }
+
+    /**
+     * Cancels every timeline that is queued or playing
+     */
+    public synchronized void cancelAll() {
+        generation++;
+    }
+
+    private TaskHandle start(Playback<?> playback) {
+        playback.generation = generation;
+        pending.add(playback);
+        scheduler.executeGlobal(this::ensureDriver);
+        return playback;
+    }
+
+    /**
+     * Starts the driver if it isn't running; only called on the global region
+     */
+    private void ensureDriver() {
+        if (driver == null && !pending.isEmpty()) {
+            driver = scheduler.runGlobalTimer(task -> tick(), 1L, 1L);
+        }
+    }
+
+    /**
+     * Advances every active timeline by one tick
+     */
+    private void tick() {
+        Playback<?> added;
+        while ((added = pending.poll()) != null) {
+            active.add(added);
+        }
+
+        Iterator<Playback<?>> iterator = active.iterator();
+        while (iterator.hasNext()) {
+            Playback<?> playback = iterator.next();
+            if (playback.generation != generation) {
+                playback.cancel();
+                iterator.remove();
+                continue;
+            }
+            try {
+                if (!playback.advance()) {
+                    iterator.remove();
+                }
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "Effect timeline failed", e);
+                iterator.remove();
+            }
+        }
+
+        activeCount = active.size();
+
+        // Park the driver until something else is played
+        if (active.isEmpty() && pending.isEmpty()) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+
+    /**
+     * Returns the number of timelines currently playing
+     */
+    public int getActiveCount() {
+        return activeCount + pending.size();
+    }
+
+    /**
+     * One run of a timeline against a context
+     */
+    private static final class Playback<T> implements TaskHandle {
+        private final EffectTimeline<? super T> timeline;
+        private final T context;
+        private final Entity anchor;
+        private final Consumer<Runnable> dispatcher;
+        private volatile boolean cancelled;
+        private volatile int generation;
+        private int elapsed;
+        private int nextFrame;
+
+        private Playback(EffectTimeline<? super T> timeline, T context, Entity anchor, Consumer<Runnable> dispatcher) {
+            this.timeline = timeline;
+            this.context = context;
+            this.anchor = anchor;
+            this.dispatcher = dispatcher;
+        }
+
+        /**
+         * Dispatches every frame that is due, returning false once the timeline is finished
+         */
+        private boolean advance() {
+            if (cancelled || (anchor != null && !anchor.isValid())) {
+                return false;
+            }
+
+            int frameCount = timeline.getFrameCount();
+            while (nextFrame < frameCount && timeline.getOffset(nextFrame) <= elapsed) {
+                final int frame = nextFrame++;
+                dispatcher.accept(() -> {
+                    if (!cancelled) {
+                        timeline.runFrame(frame, context);
+                    }
+                });
+            }
+            elapsed++;
+            return nextFrame < frameCount;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.util;
+
+import org.bukkit.Location;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Binary arena file holding every spawn point plus the loser and winner spots.
+ *
+ * Layout, big-endian:
+ * <pre>
+ *   header (32 bytes)   magic, version, flags, spawn count, world count, world table offset
+ *   coordinates         x, y, z doubles for each location, 8-byte aligned
+ *   angles              yaw, pitch floats for each location
+ *   world indices       one int per location into the world table
+ *   world table         length-prefixed UTF-8 world names
+ * </pre>
+ * Locations are stored spawn points first, then the loser spot and winner spot if the
+ * flags say they are set. Files are read whole into memory and copied in bulk into
+ * primitive arrays, so large arenas load without per-field parsing. They are not memory
+ * mapped, since a mapping holds the file open until it is garbage collected and stops the
+ * next save from replacing it on Windows.
+ */
+final class ArenaFile {
+    static final String FILE_NAME = "arena.dat";
+
+    private static final int MAGIC = 0x53424641; // "SBFA"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int FLAG_LOSER_SPOT = 1;
+    private static final int FLAG_WINNER_SPOT = 2;
+
+    private ArenaFile() {
+    }
+
+    /**
+     * Encodes the arena; worldName gives the world name of each location, loaded or not
+     */
+    static byte[] encode(List<Location> spawnPoints, Location loserSpot, Location winnerSpot,
+                         Function<Location, String> worldName) {
+        List<Location> locations = new ArrayList<>(spawnPoints);
+        int flags = 0;
+        if (loserSpot != null) {
+            locations.add(loserSpot);
+            flags |= FLAG_LOSER_SPOT;
+        }
+        if (winnerSpot != null) {
+            locations.add(winnerSpot);
+            flags |= FLAG_WINNER_SPOT;
+        }
+
+        // Build the world table, most arenas only ever use one world
+        Map<String, Integer> worldIndex = new HashMap<>();
+        List<byte[]> worldNames = new ArrayList<>();
+        int[] indices = new int[locations.size()];
+        int worldTableSize = 0;
+        for (int i = 0; i < indices.length; i++) {
+            String name = worldName.apply(locations.get(i));
+            Integer index = worldIndex.get(name);
+            if (index == null) {
+                index = worldNames.size();
+                worldIndex.put(name, index);
+                byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                worldNames.add(bytes);
+                worldTableSize += 4 + bytes.length;
+            }
+            indices[i] = index;
+        }
+
+        int count = locations.size();
+        long worldTableOffset = HEADER_SIZE + count * (3L * 8 + 2 * 4 + 4);
+        ByteBuffer buffer = ByteBuffer.allocate((int) worldTableOffset + worldTableSize);
+
+        // Header
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0);
+        buffer.putInt(flags);
+        buffer.putInt(spawnPoints.size());
+        buffer.putInt(worldNames.size());
+        buffer.putInt(0);
+        buffer.putLong(worldTableOffset);
+
+        for (Location location : locations) {
+            buffer.putDouble(location.getX());
+            buffer.putDouble(location.getY());
+            buffer.putDouble(location.getZ());
+        }
+        for (Location location : locations) {
+            buffer.putFloat(location.getYaw());
+            buffer.putFloat(location.getPitch());
+        }
+        for (int index : indices) {
+            buffer.putInt(index);
+        }
+        for (byte[] name : worldNames) {
+            buffer.putInt(name.length);
+            buffer.put(name);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Reads and validates an arena file; throws if it is not a complete arena file of a known version
+     */
+    static Contents read(File file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        try {
+            return decode(ByteBuffer.wrap(bytes), checksum(bytes));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException("Arena file is truncated", e);
+        }
+    }
+
+    /**
+     * Returns the checksum of encoded arena contents, matching Contents.getChecksum once written
+     */
+    static long checksum(byte[] encoded) {
+        CRC32 crc = new CRC32();
+        crc.update(encoded);
+        return crc.getValue();
+    }
+
+    private static Contents decode(ByteBuffer buffer, long checksum) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not an arena file");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported arena file version " + version);
+        }
+        buffer.getShort();
+        int flags = buffer.getInt();
+        int spawnCount = buffer.getInt();
+        int worldCount = buffer.getInt();
+        buffer.getInt();
+        long worldTableOffset = buffer.getLong();
+
+        boolean hasLoserSpot = (flags & FLAG_LOSER_SPOT) != 0;
+        boolean hasWinnerSpot = (flags & FLAG_WINNER_SPOT) != 0;
+        int count = spawnCount + (hasLoserSpot ? 1 : 0) + (hasWinnerSpot ? 1 : 0);
+        if (spawnCount < 0 || worldCount < 0 || worldTableOffset > buffer.limit()
+                || worldTableOffset != HEADER_SIZE + count * (3L * 8 + 2 * 4 + 4)) {
+            throw new IOException("Arena file header is corrupt");
+        }
+
+        // Bulk copies straight out of the file contents
+        double[] coordinates = new double[count * 3];
+        buffer.asDoubleBuffer().get(coordinates);
+        buffer.position(buffer.position() + coordinates.length * 8);
+        float[] angles = new float[count * 2];
+        buffer.asFloatBuffer().get(angles);
+        buffer.position(buffer.position() + angles.length * 4);
+        int[] worldIndices = new int[count];
+        buffer.asIntBuffer().get(worldIndices);
+        buffer.position(buffer.position() + worldIndices.length * 4);
+
+        String[] worldNames = new String[worldCount];
+        for (int i = 0; i < worldCount; i++) {
+            byte[] name = new byte[buffer.getInt()];
+            buffer.get(name);
+            worldNames[i] = new String(name, StandardCharsets.UTF_8);
+        }
+        for (int index : worldIndices) {
+            if (index < 0 || index >= worldCount) {
+                throw new IOException("Arena file refers to an unknown world");
+            }
+        }
+        for (double coordinate : coordinates) {
+            if (Double.isNaN(coordinate) || Double.isInfinite(coordinate)) {
+                throw new IOException("Arena file has an invalid coordinate");
+            }
+        }
+
+        return new Contents(spawnCount, hasLoserSpot, hasWinnerSpot, coordinates, angles, worldIndices, worldNames,
+                            checksum);
+    }
+
+    /**
+     * Raw arena data as stored, before any worlds are resolved
+     */
+    static final class Contents {
+        private final int spawnCount;
+        private final boolean hasLoserSpot;
+        private final boolean hasWinnerSpot;
+        private final double[] coordinates;
+        private final float[] angles;
+        private final int[] worldIndices;
+        private final String[] worldNames;
+        private final long checksum;
+
+        private Contents(int spawnCount, boolean hasLoserSpot, boolean hasWinnerSpot, double[] coordinates,
+                         float[] angles, int[] worldIndices, String[] worldNames, long checksum) {
+            this.spawnCount = spawnCount;
+            this.hasLoserSpot = hasLoserSpot;
+            this.hasWinnerSpot = hasWinnerSpot;
+            this.coordinates = coordinates;
+            this.angles = angles;
+            this.worldIndices = worldIndices;
+            this.worldNames = worldNames;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Returns the CRC32 of the whole file
+         */
+        long getChecksum() {
+            return checksum;
+        }
+
+        int getSpawnCount() {
+            return spawnCount;
+        }
+
+        boolean hasLoserSpot() {
+            return hasLoserSpot;
+        }
+
+        boolean hasWinnerSpot() {
+            return hasWinnerSpot;
+        }
+
+        /**
+         * Returns the index of the loser spot, or the winner spot after it, in the stored order
+         */
+        int getLoserSpotIndex() {
+            return spawnCount;
+        }
+
+        int getWinnerSpotIndex() {
+            return spawnCount + (hasLoserSpot ? 1 : 0);
+        }
+
+        String getWorldName(int index) {
+            return worldNames[worldIndices[index]];
+        }
+
+        double getX(int index) {
+            return coordinates[index * 3];
+        }
+
+        double getY(int index) {
+            return coordinates[index * 3 + 1];
+        }
+
+        double getZ(int index) {
+            return coordinates[index * 3 + 2];
+        }
+
+        float getYaw(int index) {
+            return angles[index * 2];
+        }
+
+        float getPitch(int index) {
+            return angles[index * 2 + 1];
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.util;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of the arena's shape: the spawn-point bounding box, its centre,
+ * how far the furthest spawn is from the centre, and which locations are set.
+ * LocationUtil keeps the current instance and replaces it whenever the arena changes,
+ * so readers never recompute any of this on their own.
+ */
+public final class ArenaGeometry {
+    // Furthest spawn point + 20 blocks for safety
+    private static final double RECOMMENDED_BOUNDARY_MARGIN = 20;
+    // Furthest spawn point + 10 blocks, the smallest sensible boundary
+    private static final double MINIMUM_BOUNDARY_MARGIN = 10;
+
+    public static final ArenaGeometry EMPTY = new ArenaGeometry(null, 0,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0, false, false);
+
+    private final World world;
+    private final int spawnCount;
+    private final double minX;
+    private final double maxX;
+    private final double sumY;
+    private final double minZ;
+    private final double maxZ;
+    private final double maxSpawnRadius;
+    private final boolean loserSpotSet;
+    private final boolean winnerSpotSet;
+
+    private ArenaGeometry(World world, int spawnCount, double minX, double maxX, double sumY,
+                          double minZ, double maxZ, double maxSpawnRadius,
+                          boolean loserSpotSet, boolean winnerSpotSet) {
+        this.world = world;
+        this.spawnCount = spawnCount;
+        this.minX = minX;
+        this.maxX = maxX;
+        this.sumY = sumY;
+        this.minZ = minZ;
+        this.maxZ = maxZ;
+        this.maxSpawnRadius = maxSpawnRadius;
+        this.loserSpotSet = loserSpotSet;
+        this.winnerSpotSet = winnerSpotSet;
+    }
+
+    /**
+     * Builds the geometry from scratch
+     */
+    public static ArenaGeometry of(List<Location> spawnPoints, boolean loserSpotSet, boolean winnerSpotSet) {
+        if (spawnPoints.isEmpty()) {
+            return EMPTY.withLoserSpot(loserSpotSet).withWinnerSpot(winnerSpotSet);
+        }
+
+        double minX = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double minZ = Double.POSITIVE_INFINITY;
+        double maxZ = Double.NEGATIVE_INFINITY;
+        double sumY = 0;
+        for (Location spawn : spawnPoints) {
+            minX = Math.min(minX, spawn.getX());
+            maxX = Math.max(maxX, spawn.getX());
+            minZ = Math.min(minZ, spawn.getZ());
+            maxZ = Math.max(maxZ, spawn.getZ());
+            sumY += spawn.getY();
+        }
+
+        double centerX = (minX + maxX) / 2;
+        double centerZ = (minZ + maxZ) / 2;
+        double radius = 0;
+        for (Location spawn : spawnPoints) {
+            radius = Math.max(radius, horizontalDistance(spawn, centerX, centerZ));
+        }
+
+        return new ArenaGeometry(spawnPoints.get(0).getWorld(), spawnPoints.size(), minX, maxX, sumY,
+                                 minZ, maxZ, radius, loserSpotSet, winnerSpotSet);
+    }
+
+    /**
+     * Returns the geometry with one more spawn point.
+     * The furthest-spawn radius only needs a rescan of all spawns if the bounding box grew,
+     * because only then does the centre move.
+     *
+     * @param spawn the new spawn point
+     * @param allSpawns every spawn point, including the new one
+     */
+    public ArenaGeometry withSpawnPoint(Location spawn, List<Location> allSpawns) {
+        double newMinX = Math.min(minX, spawn.getX());
+        double newMaxX = Math.max(maxX, spawn.getX());
+        double newMinZ = Math.min(minZ, spawn.getZ());
+        double newMaxZ = Math.max(maxZ, spawn.getZ());
+        double centerX = (newMinX + newMaxX) / 2;
+        double centerZ = (newMinZ + newMaxZ) / 2;
+
+        double radius;
+        if (newMinX == minX && newMaxX == maxX && newMinZ == minZ && newMaxZ == maxZ) {
+            radius = Math.max(maxSpawnRadius, horizontalDistance(spawn, centerX, centerZ));
+        } else {
+            radius = 0;
+            for (Location existing : allSpawns) {
+                radius = Math.max(radius, horizontalDistance(existing, centerX, centerZ));
+            }
+        }
+
+        World spawnWorld = world != null ? world : spawn.getWorld();
+        return new ArenaGeometry(spawnWorld, spawnCount + 1, newMinX, newMaxX, sumY + spawn.getY(),
+                                 newMinZ, newMaxZ, radius, loserSpotSet, winnerSpotSet);
+    }
+
+    /**
+     * Returns the geometry with the loser spot marked as set or unset
+     */
+    public ArenaGeometry withLoserSpot(boolean set) {
+        return new ArenaGeometry(world, spawnCount, minX, maxX, sumY, minZ, maxZ, maxSpawnRadius, set, winnerSpotSet);
+    }
+
+    /**
+     * Returns the geometry with the winner spot marked as set or unset
+     */
+    public ArenaGeometry withWinnerSpot(boolean set) {
+        return new ArenaGeometry(world, spawnCount, minX, maxX, sumY, minZ, maxZ, maxSpawnRadius, loserSpotSet, set);
+    }
+
+    private static double horizontalDistance(Location location, double x, double z) {
+        // Only consider X and Z for the distance calculation
+        double dx = location.getX() - x;
+        double dz = location.getZ() - z;
+        return Math.sqrt(dx * dx + dz * dz);
+    }
+
+    /**
+     * Returns a new Location at the middle of the spawn points, or null if there are none.
+     * X and Z are the middle of the bounding box; Y is the average spawn height.
+     */
+    public Location getCenter() {
+        if (spawnCount == 0) {
+            return null;
+        }
+        return new Location(world, getCenterX(), getCenterY(), getCenterZ());
+    }
+
+    public double getCenterX() {
+        return (minX + maxX) / 2;
+    }
+
+    public double getCenterY() {
+        return spawnCount == 0 ? 0 : sumY / spawnCount;
+    }
+
+    public double getCenterZ() {
+        return (minZ + maxZ) / 2;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMinZ() {
+        return minZ;
+    }
+
+    public double getMaxZ() {
+        return maxZ;
+    }
+
+    /**
+     * Returns the horizontal distance from the centre to the furthest spawn point
+     */
+    public double getMaxSpawnRadius() {
+        return maxSpawnRadius;
+    }
+
+    /**
+     * Returns the boundary distance used when a game starts
+     */
+    public double getRecommendedBoundary() {
+        return maxSpawnRadius + RECOMMENDED_BOUNDARY_MARGIN;
+    }
+
+    /**
+     * Returns the smallest boundary distance that still leaves room around every spawn point
+     */
+    public double getMinimumBoundary() {
+        return maxSpawnRadius + MINIMUM_BOUNDARY_MARGIN;
+    }
+
+    public int getSpawnCount() {
+        return spawnCount;
+    }
+
+    public boolean hasSpawnPoints() {
+        return spawnCount > 0;
+    }
+
+    public boolean hasLoserSpot() {
+        return loserSpotSet;
+    }
+
+    public boolean hasWinnerSpot() {
+        return winnerSpotSet;
+    }
+
+    /**
+     * Returns true if spawn points, the loser spot and the winner spot are all set
+     */
+    public boolean isComplete() {
+        return spawnCount > 0 && loserSpotSet && winnerSpotSet;
+    }
+}
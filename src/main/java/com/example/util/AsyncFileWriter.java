@@ -0,0 +1,155 @@
+package com.example.util;
+
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Writes plugin data files on a single background thread.
+ * Edits to the same file that arrive close together are coalesced into one write, and
+ * every write goes to a temporary file that is synced to disk and then renamed over the
+ * target, so a crash mid-write leaves the previous file intact. Completion callbacks are
+ * delivered on the global region so callers can report back to whoever made the edit.
+ */
+public class AsyncFileWriter {
+    private static final long COALESCE_DELAY_MS = 200;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final JavaPlugin plugin;
+    private final TaskScheduler scheduler;
+    private final ScheduledExecutorService executor;
+    // Writes waiting for their coalescing delay, guarded by this
+    private final Map<File, PendingWrite> pending = new HashMap<>();
+    private volatile boolean shuttingDown;
+
+    public AsyncFileWriter(JavaPlugin plugin, TaskScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, plugin.getName() + " File Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues the full contents of a file; a later write to the same file replaces this one if it hasn't run yet
+     */
+    public void write(File target, byte[] content, Consumer<Boolean> onComplete) {
+        submit(target, content, onComplete);
+    }
+
+    /**
+     * Queues deletion of a file, ordered with any writes to it
+     */
+    public void delete(File target, Consumer<Boolean> onComplete) {
+        submit(target, null, onComplete);
+    }
+
+    private synchronized void submit(File target, byte[] content, Consumer<Boolean> onComplete) {
+        PendingWrite write = pending.get(target);
+        if (write == null) {
+            write = new PendingWrite();
+            pending.put(target, write);
+            executor.schedule(() -> flush(target), COALESCE_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+
+        // The newest contents win; everyone who asked is told about the single write
+        write.content = content;
+        if (onComplete != null) {
+            write.callbacks.add(onComplete);
+        }
+    }
+
+    private void flush(File target) {
+        PendingWrite write;
+        synchronized (this) {
+            write = pending.remove(target);
+        }
+        if (write == null) {
+            return;
+        }
+
+        boolean success = write.content != null ? writeAtomically(target, write.content) : deleteFile(target);
+        if (shuttingDown || write.callbacks.isEmpty()) {
+            return;
+        }
+
+        // Report back on the global region
+        scheduler.executeGlobal(() -> {
+            for (Consumer<Boolean> callback : write.callbacks) {
+                callback.accept(success);
+            }
+        });
+    }
+
+    private boolean writeAtomically(File target, byte[] content) {
+        File temp = new File(target.getParentFile(), target.getName() + ".tmp");
+        try {
+            try (FileOutputStream out = new FileOutputStream(temp)) {
+                out.write(content);
+                // Make sure the bytes are on disk before the rename makes them visible
+                out.getFD().sync();
+            }
+
+            try {
+                Files.move(temp.toPath(), target.toPath(),
+                           StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not save " + target.getName(), e);
+            temp.delete();
+            return false;
+        }
+    }
+
+    private boolean deleteFile(File target) {
+        try {
+            Files.deleteIfExists(target.toPath());
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not delete " + target.getName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Finishes every queued write and stops the writer thread; callbacks are no longer delivered
+     */
+    public void shutdown() {
+        shuttingDown = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Timed out waiting for data files to be saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The latest contents queued for a file, or null for a delete, and who to tell when it is done
+     */
+    private static final class PendingWrite {
+        private byte[] content;
+        private final List<Consumer<Boolean>> callbacks = new ArrayList<>();
+    }
+}
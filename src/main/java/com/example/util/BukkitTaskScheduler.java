@@ -0,0 +1,138 @@
+package com.example.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.function.Consumer;
+
+/**
+ * Scheduler for classic single main thread servers
+ */
+public class BukkitTaskScheduler implements TaskScheduler {
+    private final Plugin plugin;
+    
+    public BukkitTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @Override
+    public boolean isRegionThreaded() {
+        return false;
+    }
+    
+    @Override
+    public void executeGlobal(Runnable task) {
+        runOnMainThread(task);
+    }
+    
+    @Override
+    public TaskHandle runGlobalLater(Runnable task, long delayTicks) {
+        return wrap(Bukkit.getScheduler().runTaskLater(plugin, task, delayTicks));
+    }
+    
+    @Override
+    public TaskHandle runGlobalTimer(Consumer<TaskHandle> task, long delayTicks, long periodTicks) {
+        final Handle handle = new Handle();
+        handle.task = Bukkit.getScheduler().runTaskTimer(plugin, () -> task.accept(handle), delayTicks, periodTicks);
+        return handle;
+    }
+    
+    @Override
+    public void execute(Entity entity, Runnable task) {
+        runOnMainThread(task);
+    }
+    
+    @Override
+    public void execute(Entity entity, Runnable task, Runnable retired) {
+        runOnMainThread(() -> {
+            // Match region-threaded behaviour: work for removed entities is retired
+            if (entity.isValid()) {
+                task.run();
+            } else {
+                retired.run();
+            }
+        });
+    }
+    
+    @Override
+    public TaskHandle runLater(Entity entity, Runnable task, long delayTicks) {
+        return wrap(Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            // Match region-threaded behaviour: tasks for removed entities are retired
+            if (entity.isValid()) {
+                task.run();
+            }
+        }, delayTicks));
+    }
+    
+    @Override
+    public TaskHandle runTimer(Entity entity, Consumer<TaskHandle> task, long delayTicks, long periodTicks) {
+        final Handle handle = new Handle();
+        handle.task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            if (!entity.isValid()) {
+                handle.cancel();
+                return;
+            }
+            task.accept(handle);
+        }, delayTicks, periodTicks);
+        return handle;
+    }
+    
+    @Override
+    public void execute(Location location, Runnable task) {
+        runOnMainThread(task);
+    }
+    
+    @Override
+    public TaskHandle runLater(Location location, Runnable task, long delayTicks) {
+        return wrap(Bukkit.getScheduler().runTaskLater(plugin, task, delayTicks));
+    }
+    
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
+    }
+    
+    @Override
+    public void cancelAll() {
+        Bukkit.getScheduler().cancelTasks(plugin);
+    }
+    
+    private void runOnMainThread(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+    
+    private static TaskHandle wrap(BukkitTask task) {
+        Handle handle = new Handle();
+        handle.task = task;
+        return handle;
+    }
+    
+    /**
+     * Handle around a BukkitTask
+     */
+    private static class Handle implements TaskHandle {
+        private volatile BukkitTask task;
+        private volatile boolean cancelled;
+        
+        @Override
+        public void cancel() {
+            cancelled = true;
+            BukkitTask current = task;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return cancelled || (task != null && task.isCancelled());
+        }
+    }
+}
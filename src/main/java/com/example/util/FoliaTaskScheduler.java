@@ -0,0 +1,156 @@
+package com.example.util;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.function.Consumer;
+
+/**
+ * Scheduler for region-threaded (Folia) servers.
+ * Entity tasks follow the entity between regions, location tasks run on the
+ * region owning the location and game-wide tasks run on the global region.
+ */
+public class FoliaTaskScheduler implements TaskScheduler {
+    private final Plugin plugin;
+    
+    public FoliaTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @Override
+    public boolean isRegionThreaded() {
+        return true;
+    }
+    
+    @Override
+    public void executeGlobal(Runnable task) {
+        if (Bukkit.isGlobalTickThread()) {
+            task.run();
+        } else {
+            Bukkit.getGlobalRegionScheduler().execute(plugin, task);
+        }
+    }
+    
+    @Override
+    public TaskHandle runGlobalLater(Runnable task, long delayTicks) {
+        return wrap(Bukkit.getGlobalRegionScheduler().runDelayed(plugin, t -> task.run(), ticks(delayTicks)));
+    }
+    
+    @Override
+    public TaskHandle runGlobalTimer(Consumer<TaskHandle> task, long delayTicks, long periodTicks) {
+        final Handle handle = new Handle();
+        handle.task = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, t -> handle.run(t, task),
+                ticks(delayTicks), ticks(periodTicks));
+        return handle;
+    }
+    
+    @Override
+    public void execute(Entity entity, Runnable task) {
+        if (Bukkit.isOwnedByCurrentRegion(entity)) {
+            task.run();
+        } else {
+            entity.getScheduler().execute(plugin, task, null, 1L);
+        }
+    }
+    
+    @Override
+    public void execute(Entity entity, Runnable task, Runnable retired) {
+        if (Bukkit.isOwnedByCurrentRegion(entity)) {
+            task.run();
+        } else if (!entity.getScheduler().execute(plugin, task, retired, 1L)) {
+            // Already removed, so the scheduler won't call either
+            retired.run();
+        }
+    }
+    
+    @Override
+    public TaskHandle runLater(Entity entity, Runnable task, long delayTicks) {
+        return wrap(entity.getScheduler().runDelayed(plugin, t -> task.run(), null, ticks(delayTicks)));
+    }
+    
+    @Override
+    public TaskHandle runTimer(Entity entity, Consumer<TaskHandle> task, long delayTicks, long periodTicks) {
+        final Handle handle = new Handle();
+        handle.task = entity.getScheduler().runAtFixedRate(plugin, t -> handle.run(t, task), null,
+                ticks(delayTicks), ticks(periodTicks));
+        return handle.task != null ? handle : TaskHandle.NONE;
+    }
+    
+    @Override
+    public void execute(Location location, Runnable task) {
+        if (Bukkit.isOwnedByCurrentRegion(location)) {
+            task.run();
+        } else {
+            Bukkit.getRegionScheduler().execute(plugin, location, task);
+        }
+    }
+    
+    @Override
+    public TaskHandle runLater(Location location, Runnable task, long delayTicks) {
+        return wrap(Bukkit.getRegionScheduler().runDelayed(plugin, location, t -> task.run(), ticks(delayTicks)));
+    }
+    
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getAsyncScheduler().runNow(plugin, t -> task.run());
+    }
+    
+    @Override
+    public void cancelAll() {
+        Bukkit.getGlobalRegionScheduler().cancelTasks(plugin);
+        Bukkit.getAsyncScheduler().cancelTasks(plugin);
+    }
+    
+    /**
+     * Region schedulers reject delays below one tick
+     */
+    private static long ticks(long ticks) {
+        return Math.max(1L, ticks);
+    }
+    
+    private static TaskHandle wrap(ScheduledTask task) {
+        if (task == null) {
+            // The entity was removed before the task could be scheduled
+            return TaskHandle.NONE;
+        }
+        Handle handle = new Handle();
+        handle.task = task;
+        return handle;
+    }
+    
+    /**
+     * Handle around a Folia ScheduledTask
+     */
+    private static class Handle implements TaskHandle {
+        private volatile ScheduledTask task;
+        private volatile boolean cancelled;
+        
+        /**
+         * Runs one iteration of a repeating task unless it was cancelled before scheduling finished
+         */
+        private void run(ScheduledTask scheduled, Consumer<TaskHandle> task) {
+            if (cancelled) {
+                scheduled.cancel();
+                return;
+            }
+            task.accept(this);
+        }
+        
+        @Override
+        public void cancel() {
+            cancelled = true;
+            ScheduledTask current = task;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return cancelled || (task != null && task.isCancelled());
+        }
+    }
+}
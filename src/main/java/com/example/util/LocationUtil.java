@@ -1,6 +1,7 @@
 package com.example.util;
 
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
@@ -8,40 +9,116 @@ import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 public class LocationUtil {
+    private static final int KNOWN_CHECKSUM_LIMIT = 8;
+    
     private final JavaPlugin plugin;
+    private final AsyncFileWriter fileWriter;
+    private final File arenaFile;
+    // Legacy JSON files, only read to import an arena saved by older versions
     private final File spawnPointsFile;
     private final File loserSpotFile;
     private final File winnerSpotFile;
     
-    private List<Location> spawnPoints;
+    private List<Location> spawnPoints = new ArrayList<>();
     private Location loserSpot;
     private Location winnerSpot;
+    // Locations whose world wasn't loaded yet, with the world name to bind once it is
+    private final Map<Location, String> unboundWorlds = new IdentityHashMap<>();
+    // Cached arena shape, replaced whenever a location changes
+    private volatile ArenaGeometry geometry = ArenaGeometry.EMPTY;
+    // Arena file read after an outside edit, waiting to be swapped in between games
+    private final AtomicReference<ArenaFile.Contents> pendingReload = new AtomicReference<>();
+    // Checksums of arena files this plugin wrote or loaded, so its own saves don't trigger reloads
+    private final Deque<Long> knownChecksums = new ArrayDeque<>();
+    // Set when saving would overwrite arena data that couldn't be read: an arena file that couldn't
+    // be moved aside, or JSON files that failed to import
+    private boolean savingBlocked;
+    // Generated spawn points waiting for the running game to end, with who to tell once they're saved
+    private final List<Location> pendingSpawnPoints = new ArrayList<>();
+    private final List<Consumer<Boolean>> pendingSpawnSaves = new ArrayList<>();
     
-    public LocationUtil(JavaPlugin plugin) {
+    public LocationUtil(JavaPlugin plugin, AsyncFileWriter fileWriter) {
         this.plugin = plugin;
+        this.fileWriter = fileWriter;
         
         // Initialize files
+        arenaFile = new File(plugin.getDataFolder(), ArenaFile.FILE_NAME);
         spawnPointsFile = new File(plugin.getDataFolder(), "spawnpoints.json");
         loserSpotFile = new File(plugin.getDataFolder(), "loserspot.json");
         winnerSpotFile = new File(plugin.getDataFolder(), "winnerspot.json");
         
-        // Load locations from files
-        loadSpawnPoints();
-        loadLoserSpot();
-        loadWinnerSpot();
+        // Load locations, importing the old JSON files the first time
+        if (arenaFile.exists()) {
+            loadArena();
+        } else {
+            importJsonFiles();
+        }
+        geometry = ArenaGeometry.of(spawnPoints, loserSpot != null, winnerSpot != null);
     }
     
-    // Methods for spawn points
-    public void addSpawnPoint(Location location) {
+    // Methods for spawn points; onSaved is told whether the file was written and may be null
+    public void addSpawnPoint(Location location, Consumer<Boolean> onSaved) {
         if (spawnPoints == null) {
             spawnPoints = new ArrayList<>();
         }
         spawnPoints.add(location);
-        saveSpawnPoints();
+        geometry = geometry.withSpawnPoint(location, spawnPoints);
+        saveArena(onSaved);
+    }
+    
+    /**
+     * Adds many spawn points at once with a single geometry rebuild and a single save
+     */
+    public void addSpawnPoints(List<Location> locations, Consumer<Boolean> onSaved) {
+        spawnPoints.addAll(locations);
+        geometry = ArenaGeometry.of(spawnPoints, loserSpot != null, winnerSpot != null);
+        saveArena(onSaved);
+    }
+    
+    /**
+     * Holds spawn points back until applyPendingSpawnPoints, so they don't change the arena
+     * under a running game; only call on the global region
+     */
+    public void stageSpawnPoints(List<Location> locations, Consumer<Boolean> onSaved) {
+        pendingSpawnPoints.addAll(locations);
+        pendingSpawnSaves.add(onSaved);
+    }
+    
+    /**
+     * Adds the spawn points staged by stageSpawnPoints, if any; only call between games
+     */
+    public boolean applyPendingSpawnPoints() {
+        if (pendingSpawnPoints.isEmpty()) {
+            return false;
+        }
+        
+        List<Location> locations = new ArrayList<>(pendingSpawnPoints);
+        List<Consumer<Boolean>> callbacks = new ArrayList<>(pendingSpawnSaves);
+        pendingSpawnPoints.clear();
+        pendingSpawnSaves.clear();
+        addSpawnPoints(locations, saved -> {
+            for (Consumer<Boolean> callback : callbacks) {
+                if (callback != null) {
+                    callback.accept(saved);
+                }
+            }
+        });
+        return true;
     }
     
     public List<Location> getSpawnPoints() {
@@ -49,45 +126,25 @@ public class LocationUtil {
     }
     
     /**
-     * Calculates the middle point from the spawn points
+     * Returns the cached arena geometry; never null
+     */
+    public ArenaGeometry getGeometry() {
+        return geometry;
+    }
+    
+    /**
+     * Returns the middle point of the spawn points
      * Returns null if there are no spawn points
      */
     public Location getMiddlePoint() {
-        if (spawnPoints == null || spawnPoints.isEmpty()) {
-            return null;
-        }
-        
-        // Initialize min/max coordinates
-        double minX = Double.MAX_VALUE;
-        double maxX = Double.MIN_VALUE;
-        double minZ = Double.MAX_VALUE;
-        double maxZ = Double.MIN_VALUE;
-        double avgY = 0;
-        
-        // Find the min/max X and Z coordinates
-        for (Location spawn : spawnPoints) {
-            minX = Math.min(minX, spawn.getX());
-            maxX = Math.max(maxX, spawn.getX());
-            minZ = Math.min(minZ, spawn.getZ());
-            maxZ = Math.max(maxZ, spawn.getZ());
-            avgY += spawn.getY();
-        }
-        
-        // Calculate average Y
-        avgY /= spawnPoints.size();
-        
-        // Middle point is average of min and max
-        double midX = (minX + maxX) / 2;
-        double midZ = (minZ + maxZ) / 2;
-        
-        // Create the middle point location in the same world as the spawn points
-        return new Location(spawnPoints.get(0).getWorld(), midX, avgY, midZ);
+        return geometry.getCenter();
     }
     
     // Methods for loser spot
-    public void setLoserSpot(Location location) {
+    public void setLoserSpot(Location location, Consumer<Boolean> onSaved) {
         loserSpot = location;
-        saveLoserSpot();
+        geometry = geometry.withLoserSpot(true);
+        saveArena(onSaved);
     }
     
     public Location getLoserSpot() {
@@ -95,9 +152,10 @@ public class LocationUtil {
     }
     
     // Methods for winner spot
-    public void setWinnerSpot(Location location) {
+    public void setWinnerSpot(Location location, Consumer<Boolean> onSaved) {
         winnerSpot = location;
-        saveWinnerSpot();
+        geometry = geometry.withWinnerSpot(true);
+        saveArena(onSaved);
     }
     
     public Location getWinnerSpot() {
@@ -106,104 +164,239 @@ public class LocationUtil {
     
     // Check if all required locations are set
     public boolean areAllLocationsSet() {
-        return spawnPoints != null && !spawnPoints.isEmpty() 
-                && loserSpot != null 
-                && winnerSpot != null;
+        return geometry.isComplete();
     }
     
-    // Reset all locations
-    public boolean resetAllLocations() {
-        try {
-            // Clear in-memory locations
-            spawnPoints = new ArrayList<>();
-            loserSpot = null;
-            winnerSpot = null;
-            
-            // Delete files
-            boolean spawnDeleted = !spawnPointsFile.exists() || spawnPointsFile.delete();
-            boolean loserDeleted = !loserSpotFile.exists() || loserSpotFile.delete();
-            boolean winnerDeleted = !winnerSpotFile.exists() || winnerSpotFile.delete();
-            
-            return spawnDeleted && loserDeleted && winnerDeleted;
-        } catch (Exception e) {
-            plugin.getLogger().severe("Error resetting locations: " + e.getMessage());
-            return false;
+    // Reset all locations; onComplete is told whether every file was deleted
+    public void resetAllLocations(Consumer<Boolean> onComplete) {
+        // Clear in-memory locations
+        spawnPoints = new ArrayList<>();
+        loserSpot = null;
+        winnerSpot = null;
+        unboundWorlds.clear();
+        pendingReload.set(null);
+        pendingSpawnPoints.clear();
+        pendingSpawnSaves.clear();
+        geometry = ArenaGeometry.EMPTY;
+        // The admin chose to throw the old file away
+        savingBlocked = false;
+        
+        // Delete files on the writer, after any saves still queued for them
+        File[] files = {arenaFile, spawnPointsFile, loserSpotFile, winnerSpotFile};
+        AtomicInteger remaining = new AtomicInteger(files.length);
+        AtomicBoolean allDeleted = new AtomicBoolean(true);
+        for (File file : files) {
+            fileWriter.delete(file, deleted -> {
+                if (!deleted) {
+                    allDeleted.set(false);
+                }
+                if (remaining.decrementAndGet() == 0 && onComplete != null) {
+                    onComplete.accept(allDeleted.get());
+                }
+            });
         }
     }
     
-    // Saving methods
-    @SuppressWarnings("unchecked")
-    private void saveSpawnPoints() {
-        JSONArray jsonArray = new JSONArray();
-        
-        for (Location location : spawnPoints) {
-            JSONObject jsonLocation = new JSONObject();
-            jsonLocation.put("world", location.getWorld().getName());
-            jsonLocation.put("x", location.getX());
-            jsonLocation.put("y", location.getY());
-            jsonLocation.put("z", location.getZ());
-            jsonLocation.put("yaw", location.getYaw());
-            jsonLocation.put("pitch", location.getPitch());
-            
-            jsonArray.add(jsonLocation);
+    /**
+     * Binds every location saved in a world that wasn't loaded yet; called when a world loads
+     */
+    public void bindWorld(World world) {
+        int bound = 0;
+        Iterator<Map.Entry<Location, String>> iterator = unboundWorlds.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Location, String> entry = iterator.next();
+            if (entry.getValue().equals(world.getName())) {
+                entry.getKey().setWorld(world);
+                iterator.remove();
+                bound++;
+            }
         }
         
-        try (FileWriter file = new FileWriter(spawnPointsFile)) {
-            file.write(jsonArray.toJSONString());
-            file.flush();
+        if (bound > 0) {
+            geometry = ArenaGeometry.of(spawnPoints, loserSpot != null, winnerSpot != null);
+            plugin.getLogger().info("Bound " + bound + " arena locations to world " + world.getName());
+        }
+    }
+    
+    /**
+     * Creates a location in the named world, remembering the name if the world isn't loaded yet
+     */
+    private Location createLocation(String worldName, double x, double y, double z, float yaw, float pitch) {
+        World world = plugin.getServer().getWorld(worldName);
+        Location location = new Location(world, x, y, z, yaw, pitch);
+        if (world == null) {
+            unboundWorlds.put(location, worldName);
+        }
+        return location;
+    }
+    
+    private String getWorldName(Location location) {
+        String unbound = unboundWorlds.get(location);
+        return unbound != null ? unbound : location.getWorld().getName();
+    }
+    
+    // Saving; the file is encoded here and written by the background file writer
+    private void saveArena(Consumer<Boolean> onSaved) {
+        if (savingBlocked) {
+            if (onSaved != null) {
+                onSaved.accept(false);
+            }
+            return;
+        }
+        byte[] contents = ArenaFile.encode(spawnPoints, loserSpot, winnerSpot, this::getWorldName);
+        rememberChecksum(ArenaFile.checksum(contents));
+        fileWriter.write(arenaFile, contents, onSaved);
+    }
+    
+    /**
+     * Records a version of the arena file that is already live, so seeing it on disk is not a change
+     */
+    private void rememberChecksum(long checksum) {
+        synchronized (knownChecksums) {
+            knownChecksums.addLast(checksum);
+            if (knownChecksums.size() > KNOWN_CHECKSUM_LIMIT) {
+                knownChecksums.removeFirst();
+            }
+        }
+    }
+    
+    private boolean isKnownChecksum(long checksum) {
+        synchronized (knownChecksums) {
+            return knownChecksums.contains(checksum);
+        }
+    }
+    
+    // Loading methods
+    private void loadArena() {
+        try {
+            useContents(ArenaFile.read(arenaFile));
         } catch (IOException e) {
-            plugin.getLogger().severe("Could not save spawn points: " + e.getMessage());
+            plugin.getLogger().severe("Could not load arena: " + e.getMessage());
+            setAsideCorruptArena();
         }
     }
     
-    @SuppressWarnings("unchecked")
-    private void saveLoserSpot() {
-        JSONObject jsonLocation = new JSONObject();
-        jsonLocation.put("world", loserSpot.getWorld().getName());
-        jsonLocation.put("x", loserSpot.getX());
-        jsonLocation.put("y", loserSpot.getY());
-        jsonLocation.put("z", loserSpot.getZ());
-        jsonLocation.put("yaw", loserSpot.getYaw());
-        jsonLocation.put("pitch", loserSpot.getPitch());
-        
-        try (FileWriter file = new FileWriter(loserSpotFile)) {
-            file.write(jsonLocation.toJSONString());
-            file.flush();
+    /**
+     * Moves an unreadable arena file out of the way before anything can be saved over it,
+     * so the locations in it can still be recovered by hand
+     */
+    private void setAsideCorruptArena() {
+        File corruptFile = new File(plugin.getDataFolder(), ArenaFile.FILE_NAME + ".corrupt");
+        try {
+            Files.move(arenaFile.toPath(), corruptFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            plugin.getLogger().severe("Moved the unreadable arena file to " + corruptFile.getName() +
+                                      "; the arena starts empty");
         } catch (IOException e) {
-            plugin.getLogger().severe("Could not save loser spot: " + e.getMessage());
+            savingBlocked = true;
+            plugin.getLogger().severe("Could not move the unreadable arena file aside, so arena changes won't be " +
+                                      "saved until it is moved or /resetGame is used: " + e.getMessage());
         }
     }
     
-    @SuppressWarnings("unchecked")
-    private void saveWinnerSpot() {
-        JSONObject jsonLocation = new JSONObject();
-        jsonLocation.put("world", winnerSpot.getWorld().getName());
-        jsonLocation.put("x", winnerSpot.getX());
-        jsonLocation.put("y", winnerSpot.getY());
-        jsonLocation.put("z", winnerSpot.getZ());
-        jsonLocation.put("yaw", winnerSpot.getYaw());
-        jsonLocation.put("pitch", winnerSpot.getPitch());
+    /**
+     * Replaces every location with the ones from an arena file, building them all before swapping any in
+     */
+    private void useContents(ArenaFile.Contents contents) {
+        unboundWorlds.clear();
+        List<Location> newSpawnPoints = new ArrayList<>(contents.getSpawnCount());
+        for (int i = 0; i < contents.getSpawnCount(); i++) {
+            newSpawnPoints.add(createLocation(contents, i));
+        }
+        Location newLoserSpot = contents.hasLoserSpot() ? createLocation(contents, contents.getLoserSpotIndex()) : null;
+        Location newWinnerSpot = contents.hasWinnerSpot() ? createLocation(contents, contents.getWinnerSpotIndex()) : null;
         
-        try (FileWriter file = new FileWriter(winnerSpotFile)) {
-            file.write(jsonLocation.toJSONString());
-            file.flush();
+        spawnPoints = newSpawnPoints;
+        loserSpot = newLoserSpot;
+        winnerSpot = newWinnerSpot;
+        geometry = ArenaGeometry.of(newSpawnPoints, newLoserSpot != null, newWinnerSpot != null);
+        rememberChecksum(contents.getChecksum());
+    }
+    
+    /**
+     * Reads and validates the arena file after it changed on disk, keeping it ready to swap in.
+     * Safe to call off the main thread. Returns false, leaving the live arena alone, if the file
+     * is malformed or is a version this plugin wrote or already loaded.
+     */
+    public boolean stageReload() {
+        ArenaFile.Contents contents;
+        try {
+            contents = ArenaFile.read(arenaFile);
         } catch (IOException e) {
-            plugin.getLogger().severe("Could not save winner spot: " + e.getMessage());
+            plugin.getLogger().warning("Ignoring change to " + arenaFile.getName() + ": " + e.getMessage());
+            return false;
         }
+        
+        if (isKnownChecksum(contents.getChecksum())) {
+            return false;
+        }
+        pendingReload.set(contents);
+        return true;
     }
     
-    // Loading methods
-    private void loadSpawnPoints() {
-        spawnPoints = new ArrayList<>();
+    /**
+     * Swaps in the arena staged by stageReload, if any; only call between games
+     */
+    public boolean applyPendingReload() {
+        ArenaFile.Contents contents = pendingReload.getAndSet(null);
+        if (contents == null) {
+            return false;
+        }
+        useContents(contents);
+        return true;
+    }
+    
+    public File getArenaFile() {
+        return arenaFile;
+    }
+    
+    private Location createLocation(ArenaFile.Contents contents, int index) {
+        return createLocation(contents.getWorldName(index), contents.getX(index), contents.getY(index),
+                              contents.getZ(index), contents.getYaw(index), contents.getPitch(index));
+    }
+    
+    /**
+     * Reads the JSON files written by older versions and saves them as an arena file.
+     * The JSON files are left in place but no longer read once the arena file exists, so the
+     * arena file is only written if every JSON file there was read without errors.
+     */
+    private void importJsonFiles() {
+        if (!spawnPointsFile.exists() && !loserSpotFile.exists() && !winnerSpotFile.exists()) {
+            return;
+        }
         
-        if (!spawnPointsFile.exists()) {
+        // Read all three even if one fails, so every problem is logged at once
+        boolean spawnPointsRead = loadSpawnPoints();
+        boolean loserSpotRead = loadLoserSpot();
+        boolean winnerSpotRead = loadWinnerSpot();
+        if (!spawnPointsRead || !loserSpotRead || !winnerSpotRead) {
+            savingBlocked = true;
+            plugin.getLogger().severe("Not importing the arena from JSON until the files above are fixed; arena " +
+                                      "changes won't be saved until then or until /resetGame is used");
             return;
         }
         
+        int imported = spawnPoints.size();
+        saveArena(saved -> {
+            if (saved) {
+                plugin.getLogger().info("Imported " + imported + " spawn points from JSON into " + ArenaFile.FILE_NAME);
+            }
+        });
+    }
+    
+    /**
+     * Each load method returns false if its file exists but couldn't be read
+     */
+    private boolean loadSpawnPoints() {
+        if (!spawnPointsFile.exists()) {
+            return true;
+        }
+        
         JSONParser parser = new JSONParser();
         
         try (FileReader reader = new FileReader(spawnPointsFile)) {
             JSONArray jsonArray = (JSONArray) parser.parse(reader);
+            // Only keep the spawn points if the whole file reads cleanly
+            List<Location> loaded = new ArrayList<>(jsonArray.size());
             
             for (Object obj : jsonArray) {
                 JSONObject jsonLocation = (JSONObject) obj;
@@ -215,17 +408,19 @@ public class LocationUtil {
                 float yaw = ((Number) jsonLocation.get("yaw")).floatValue();
                 float pitch = ((Number) jsonLocation.get("pitch")).floatValue();
                 
-                Location location = new Location(plugin.getServer().getWorld(worldName), x, y, z, yaw, pitch);
-                spawnPoints.add(location);
+                loaded.add(createLocation(worldName, x, y, z, yaw, pitch));
             }
-        } catch (IOException | ParseException e) {
+            spawnPoints.addAll(loaded);
+            return true;
+        } catch (IOException | ParseException | ClassCastException | NullPointerException e) {
             plugin.getLogger().severe("Could not load spawn points: " + e.getMessage());
+            return false;
         }
     }
     
-    private void loadLoserSpot() {
+    private boolean loadLoserSpot() {
         if (!loserSpotFile.exists()) {
-            return;
+            return true;
         }
         
         JSONParser parser = new JSONParser();
@@ -240,15 +435,17 @@ public class LocationUtil {
             float yaw = ((Number) jsonLocation.get("yaw")).floatValue();
             float pitch = ((Number) jsonLocation.get("pitch")).floatValue();
             
-            loserSpot = new Location(plugin.getServer().getWorld(worldName), x, y, z, yaw, pitch);
-        } catch (IOException | ParseException e) {
+            loserSpot = createLocation(worldName, x, y, z, yaw, pitch);
+            return true;
+        } catch (IOException | ParseException | ClassCastException | NullPointerException e) {
             plugin.getLogger().severe("Could not load loser spot: " + e.getMessage());
+            return false;
         }
     }
     
-    private void loadWinnerSpot() {
+    private boolean loadWinnerSpot() {
         if (!winnerSpotFile.exists()) {
-            return;
+            return true;
         }
         
         JSONParser parser = new JSONParser();
@@ -263,9 +460,11 @@ public class LocationUtil {
             float yaw = ((Number) jsonLocation.get("yaw")).floatValue();
             float pitch = ((Number) jsonLocation.get("pitch")).floatValue();
             
-            winnerSpot = new Location(plugin.getServer().getWorld(worldName), x, y, z, yaw, pitch);
-        } catch (IOException | ParseException e) {
+            winnerSpot = createLocation(worldName, x, y, z, yaw, pitch);
+            return true;
+        } catch (IOException | ParseException | ClassCastException | NullPointerException e) {
             plugin.getLogger().severe("Could not load winner spot: " + e.getMessage());
+            return false;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.example.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A chat message compiled once into fixed text components with numbered argument slots.
+ * Rendering fills the slots in order and joins the pieces into a single component, so a
+ * broadcast builds its message once no matter how many players receive it.
+ */
+public final class MessageTemplate {
+    // Fixed pieces of the message, with null wherever an argument goes
+    private final Component[] parts;
+    private final Style[] argumentStyles;
+    private final int argumentCount;
+
+    private MessageTemplate(List<Component> parts, List<Style> argumentStyles, int argumentCount) {
+        this.parts = parts.toArray(new Component[0]);
+        this.argumentStyles = argumentStyles.toArray(new Style[0]);
+        this.argumentCount = argumentCount;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builds the message with the arguments in slot order
+     */
+    public Component render(Object... arguments) {
+        if (arguments.length != argumentCount) {
+            throw new IllegalArgumentException("Expected " + argumentCount + " arguments but got " + arguments.length);
+        }
+
+        TextComponent.Builder message = Component.text();
+        int next = 0;
+        for (int i = 0; i < parts.length; i++) {
+            if (parts[i] != null) {
+                message.append(parts[i]);
+            } else {
+                message.append(Component.text(String.valueOf(arguments[next++]), argumentStyles[i]));
+            }
+        }
+        return message.build();
+    }
+
+    public static final class Builder {
+        private final List<Component> parts = new ArrayList<>();
+        private final List<Style> argumentStyles = new ArrayList<>();
+        private int argumentCount;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds fixed text in a colour
+         */
+        public Builder text(String text, NamedTextColor color) {
+            parts.add(Component.text(text, color));
+            argumentStyles.add(null);
+            return this;
+        }
+
+        /**
+         * Adds the next argument slot, shown in a colour
+         */
+        public Builder argument(NamedTextColor color) {
+            parts.add(null);
+            argumentStyles.add(Style.style(color));
+            argumentCount++;
+            return this;
+        }
+
+        public MessageTemplate build() {
+            return new MessageTemplate(parts, argumentStyles, argumentCount);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.util;
+
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.function.IntFunction;
+
+/**
+ * A particle shape precomputed into packed x,y,z offset arrays.
+ * Each shape is generated once at a set of resolutions (full, 1/2, 1/4 and 1/8 of its
+ * points) so lower effect quality levels get an evenly spaced shape rather than gaps.
+ * Stamping a shape adds the offsets to a base position and spawns through the
+ * primitive-coordinate overload, so no Location is allocated per point.
+ */
+public final class ParticleShape {
+    private static final int[] STRIDES = {1, 2, 4, 8};
+
+    // Packed offsets per resolution, indexed in the same order as STRIDES
+    private final double[][] resolutions = new double[STRIDES.length][];
+
+    private ParticleShape(int points, IntFunction<double[]> generator) {
+        for (int i = 0; i < STRIDES.length; i++) {
+            resolutions[i] = generator.apply(Math.max(1, points / STRIDES[i]));
+        }
+    }
+
+    /**
+     * Horizontal circle around the origin
+     */
+    public static ParticleShape ring(double radius, int points) {
+        return arc(radius, 0, Math.PI * 2, points);
+    }
+
+    /**
+     * Horizontal arc around the origin from a start angle, sweeping the given number of radians
+     */
+    public static ParticleShape arc(double radius, double startAngle, double sweep, int points) {
+        // A full circle must not repeat its first point at the end
+        final boolean closed = sweep >= Math.PI * 2;
+        return new ParticleShape(points, count -> {
+            double[] offsets = new double[count * 3];
+            double step = closed || count == 1 ? sweep / count : sweep / (count - 1);
+            for (int i = 0; i < count; i++) {
+                double angle = startAngle + step * i;
+                offsets[i * 3] = Math.cos(angle) * radius;
+                offsets[i * 3 + 2] = Math.sin(angle) * radius;
+            }
+            return offsets;
+        });
+    }
+
+    /**
+     * Spiral rising from the origin, winding the given number of turns over its height
+     */
+    public static ParticleShape spiral(double radius, double height, double turns, int points) {
+        return new ParticleShape(points, count -> {
+            double[] offsets = new double[count * 3];
+            for (int i = 0; i < count; i++) {
+                double t = count == 1 ? 0 : (double) i / (count - 1);
+                double angle = t * turns * Math.PI * 2;
+                offsets[i * 3] = Math.cos(angle) * radius;
+                offsets[i * 3 + 1] = t * height;
+                offsets[i * 3 + 2] = Math.sin(angle) * radius;
+            }
+            return offsets;
+        });
+    }
+
+    /**
+     * Vertical line of points starting at a height above the origin, spaced evenly
+     */
+    public static ParticleShape column(double startHeight, double spacing, int points) {
+        return new ParticleShape(points, count -> {
+            double[] offsets = new double[count * 3];
+            // Fewer points keep the same overall height
+            double scaledSpacing = count == 1 ? 0 : spacing * (points - 1) / (count - 1);
+            for (int i = 0; i < count; i++) {
+                offsets[i * 3 + 1] = startHeight + scaledSpacing * i;
+            }
+            return offsets;
+        });
+    }
+
+    /**
+     * Points spread evenly over a sphere around the origin, using a Fibonacci lattice
+     */
+    public static ParticleShape sphere(double radius, int points) {
+        return new ParticleShape(points, count -> {
+            double[] offsets = new double[count * 3];
+            double goldenAngle = Math.PI * (3 - Math.sqrt(5));
+            for (int i = 0; i < count; i++) {
+                double y = 1 - (i + 0.5) * 2.0 / count;
+                double ring = Math.sqrt(1 - y * y);
+                double theta = goldenAngle * i;
+                offsets[i * 3] = Math.cos(theta) * ring * radius;
+                offsets[i * 3 + 1] = y * radius;
+                offsets[i * 3 + 2] = Math.sin(theta) * ring * radius;
+            }
+            return offsets;
+        });
+    }
+
+    /**
+     * Outline of a star in the vertical x,y plane with the given number of tips
+     */
+    public static ParticleShape star(double radius, int tips, int points) {
+        return new ParticleShape(points, count -> {
+            int vertices = tips * 2;
+            double[] offsets = new double[count * 3];
+            for (int i = 0; i < count; i++) {
+                // Walk the outline, alternating between outer tips and inner corners
+                double position = (double) i * vertices / count;
+                int v = (int) position;
+                double t = position - v;
+                double r1 = v % 2 == 0 ? radius : radius * 0.4;
+                double r2 = v % 2 == 0 ? radius * 0.4 : radius;
+                double a1 = Math.PI * 2 * v / vertices;
+                double a2 = Math.PI * 2 * (v + 1) / vertices;
+                offsets[i * 3] = Math.cos(a1) * r1 * (1 - t) + Math.cos(a2) * r2 * t;
+                offsets[i * 3 + 1] = Math.sin(a1) * r1 * (1 - t) + Math.sin(a2) * r2 * t;
+            }
+            return offsets;
+        });
+    }
+
+    /**
+     * Returns the packed x,y,z offsets for a stride; the array must not be modified
+     */
+    public double[] getOffsets(int stride) {
+        return resolutions[resolutionIndex(stride)];
+    }
+
+    /**
+     * Returns the number of points at a stride
+     */
+    public int size(int stride) {
+        return getOffsets(stride).length / 3;
+    }
+
+    /**
+     * Spawns the shape at full resolution
+     */
+    public <T> void stamp(World world, Particle particle, double x, double y, double z,
+                          int count, double spread, double extra, T data) {
+        stamp(world, particle, x, y, z, 1, count, spread, extra, data);
+    }
+
+    /**
+     * Spawns the shape at the resolution for a particle stride, one burst per point
+     */
+    public <T> void stamp(World world, Particle particle, double x, double y, double z, int stride,
+                          int count, double spread, double extra, T data) {
+        double[] offsets = getOffsets(stride);
+        for (int i = 0; i < offsets.length; i += 3) {
+            world.spawnParticle(particle, x + offsets[i], y + offsets[i + 1], z + offsets[i + 2],
+                                count, spread, spread, spread, extra, data);
+        }
+    }
+
+    /**
+     * Spawns the shape for a single player only, at the resolution for a particle stride
+     */
+    public <T> void stamp(Player viewer, Particle particle, double x, double y, double z, int stride,
+                          int count, double spread, double extra, T data) {
+        double[] offsets = getOffsets(stride);
+        for (int i = 0; i < offsets.length; i += 3) {
+            viewer.spawnParticle(particle, x + offsets[i], y + offsets[i + 1], z + offsets[i + 2],
+                                 count, spread, spread, spread, extra, data);
+        }
+    }
+
+    /**
+     * Maps a stride onto the closest precomputed resolution that isn't sparser
+     */
+    private static int resolutionIndex(int stride) {
+        for (int i = STRIDES.length - 1; i > 0; i--) {
+            if (stride >= STRIDES[i]) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
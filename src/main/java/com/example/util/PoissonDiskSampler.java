@@ -0,0 +1,111 @@
+package com.example.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Picks well-spread points out of a set of candidate positions.
+ * Candidates are visited in random order and accepted only if no accepted point is within
+ * the current spacing, found through a grid of spacing-sized cells. The spacing starts at
+ * what an even spread over the area would give and shrinks until enough points fit.
+ */
+public final class PoissonDiskSampler {
+    private static final double SHRINK_FACTOR = 0.85;
+
+    private PoissonDiskSampler() {
+    }
+
+    /**
+     * Returns the indices of up to target candidates, no two closer than minSpacing
+     *
+     * @param x candidate x coordinates
+     * @param z candidate z coordinates, same length as x
+     * @param area the area the candidates were taken from, used for the starting spacing
+     */
+    public static int[] sample(double[] x, double[] z, int target, double area, double minSpacing, Random random) {
+        int candidates = x.length;
+        if (candidates == 0 || target <= 0) {
+            return new int[0];
+        }
+
+        // Random visiting order, shared by every pass
+        int[] order = new int[candidates];
+        for (int i = 0; i < candidates; i++) {
+            order[i] = i;
+        }
+        for (int i = candidates - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+
+        boolean[] taken = new boolean[candidates];
+        int[] accepted = new int[Math.min(target, candidates)];
+        int acceptedCount = 0;
+        double spacing = Math.max(minSpacing, Math.sqrt(area / target));
+
+        while (true) {
+            // Points accepted at a wider spacing always satisfy a narrower one
+            Map<Long, List<Integer>> grid = new HashMap<>();
+            for (int i = 0; i < acceptedCount; i++) {
+                addToGrid(grid, accepted[i], x, z, spacing);
+            }
+
+            for (int index : order) {
+                if (taken[index] || !isFarEnough(grid, index, x, z, spacing)) {
+                    continue;
+                }
+                taken[index] = true;
+                accepted[acceptedCount++] = index;
+                if (acceptedCount == accepted.length) {
+                    return accepted;
+                }
+                addToGrid(grid, index, x, z, spacing);
+            }
+
+            if (spacing <= minSpacing) {
+                int[] result = new int[acceptedCount];
+                System.arraycopy(accepted, 0, result, 0, acceptedCount);
+                return result;
+            }
+            spacing = Math.max(minSpacing, spacing * SHRINK_FACTOR);
+        }
+    }
+
+    private static void addToGrid(Map<Long, List<Integer>> grid, int index, double[] x, double[] z, double spacing) {
+        long key = cellKey((int) Math.floor(x[index] / spacing), (int) Math.floor(z[index] / spacing));
+        grid.computeIfAbsent(key, k -> new ArrayList<>()).add(index);
+    }
+
+    private static boolean isFarEnough(Map<Long, List<Integer>> grid, int index, double[] x, double[] z, double spacing) {
+        int cellX = (int) Math.floor(x[index] / spacing);
+        int cellZ = (int) Math.floor(z[index] / spacing);
+        double spacingSquared = spacing * spacing;
+
+        // Anything closer than the spacing is in this cell or one of its neighbours
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                List<Integer> cell = grid.get(cellKey(cellX + dx, cellZ + dz));
+                if (cell == null) {
+                    continue;
+                }
+                for (int other : cell) {
+                    double distX = x[other] - x[index];
+                    double distZ = z[other] - z[index];
+                    if (distX * distX + distZ * distZ < spacingSquared) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.util;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+
+/**
+ * Rules for whether a player can safely stand somewhere.
+ * Works on chunk snapshots only, so it can be used from any thread.
+ */
+public final class SpawnSafety {
+    private SpawnSafety() {
+    }
+
+    /**
+     * Returns true if a player standing on the block at floorY, with feet and head above it, is safe.
+     * Coordinates are relative to the snapshot's chunk.
+     */
+    public static boolean isSafe(ChunkSnapshot snapshot, int x, int floorY, int z) {
+        return isSafeFloor(snapshot.getBlockType(x, floorY, z))
+            && isClear(snapshot.getBlockType(x, floorY + 1, z))
+            && isClear(snapshot.getBlockType(x, floorY + 2, z));
+    }
+
+    /**
+     * Returns true if the block is something solid to stand on that doesn't hurt
+     */
+    public static boolean isSafeFloor(Material type) {
+        return type.isSolid()
+            && type != Material.MAGMA_BLOCK
+            && type != Material.CACTUS
+            && type != Material.CAMPFIRE
+            && type != Material.SOUL_CAMPFIRE
+            && !Tag.LEAVES.isTagged(type);
+    }
+
+    /**
+     * Returns true if a player's feet or head can be in this block without harm
+     */
+    public static boolean isClear(Material type) {
+        return !type.isSolid()
+            && type != Material.LAVA
+            && type != Material.WATER
+            && type != Material.FIRE
+            && type != Material.SOUL_FIRE
+            && type != Material.COBWEB
+            && type != Material.SWEET_BERRY_BUSH
+            && type != Material.POWDER_SNOW;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.util;
+
+/**
+ * Handle to a task scheduled through {@link TaskScheduler}
+ */
+public interface TaskHandle {
+    /**
+     * Cancels the task if it has not already run or been cancelled
+     */
+    void cancel();
+    
+    /**
+     * Returns true if the task has been cancelled
+     */
+    boolean isCancelled();
+    
+    /**
+     * A handle for a task that was never scheduled (e.g. its entity was already removed)
+     */
+    TaskHandle NONE = new TaskHandle() {
+        @Override
+        public void cancel() {
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return true;
+        }
+    };
+}
@@ -0,0 +1,99 @@
+package com.example.util;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.function.Consumer;
+
+/**
+ * Schedules work on the right thread for the running server.
+ * Classic Paper/Spigot servers run everything on the main thread, while
+ * region-threaded (Folia) servers require entity work on the entity's
+ * region, block work on the location's region and game-wide work on the
+ * global region.
+ */
+public interface TaskScheduler {
+    
+    /**
+     * Creates the scheduler matching the platform the plugin is running on
+     */
+    static TaskScheduler create(Plugin plugin) {
+        if (isRegionThreadedServer()) {
+            return new FoliaTaskScheduler(plugin);
+        }
+        return new BukkitTaskScheduler(plugin);
+    }
+    
+    /**
+     * Detects a Folia-style region-threaded server
+     */
+    static boolean isRegionThreadedServer() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Returns true when running on a region-threaded server
+     */
+    boolean isRegionThreaded();
+    
+    /**
+     * Runs game-wide work now if already on the global thread, otherwise on its next tick
+     */
+    void executeGlobal(Runnable task);
+    
+    /**
+     * Runs game-wide work after a delay
+     */
+    TaskHandle runGlobalLater(Runnable task, long delayTicks);
+    
+    /**
+     * Runs game-wide work repeatedly; the task receives its own handle so it can cancel itself
+     */
+    TaskHandle runGlobalTimer(Consumer<TaskHandle> task, long delayTicks, long periodTicks);
+    
+    /**
+     * Runs work for an entity now if this thread owns it, otherwise on the entity's next tick
+     */
+    void execute(Entity entity, Runnable task);
+    
+    /**
+     * Runs work for an entity like execute, but runs retired instead if the entity is removed first
+     */
+    void execute(Entity entity, Runnable task, Runnable retired);
+    
+    /**
+     * Runs work for an entity after a delay; skipped if the entity is removed first
+     */
+    TaskHandle runLater(Entity entity, Runnable task, long delayTicks);
+    
+    /**
+     * Runs work for an entity repeatedly until cancelled or the entity is removed
+     */
+    TaskHandle runTimer(Entity entity, Consumer<TaskHandle> task, long delayTicks, long periodTicks);
+    
+    /**
+     * Runs work at a location now if this thread owns its region, otherwise on the region's next tick
+     */
+    void execute(Location location, Runnable task);
+    
+    /**
+     * Runs work at a location after a delay
+     */
+    TaskHandle runLater(Location location, Runnable task, long delayTicks);
+    
+    /**
+     * Runs work off the server threads
+     */
+    void runAsync(Runnable task);
+    
+    /**
+     * Cancels every task this plugin has scheduled
+     */
+    void cancelAll();
+}